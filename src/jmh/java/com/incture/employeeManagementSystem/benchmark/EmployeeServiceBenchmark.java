@@ -0,0 +1,95 @@
+package com.incture.employeeManagementSystem.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.SalaryDistribution;
+import com.incture.employeeManagementSystem.entities.SalaryStatistics;
+import com.incture.employeeManagementSystem.service.EmployeeService;
+
+/**
+ * Service-layer hot paths: lookup by ID, filtering, salary statistics and updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private EmployeeService employeeService;
+    private int employees;
+    private double medianSalary;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication application) {
+        employeeService = application.getBean(EmployeeService.class);
+        employees = application.employees;
+        medianSalary = 30000.0 + Math.min(employees, 70000) / 2;
+    }
+
+    @Benchmark
+    public Employee getEmployeeById() {
+        return employeeService.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public List<Employee> filterByDepartmentAndSalary() {
+        return employeeService.filterEmployees("Sales", null, medianSalary, null);
+    }
+
+    @Benchmark
+    public List<Employee> filterByExactDepartmentAndSalary() {
+        return employeeService.filterEmployees("Sales", null, medianSalary, "exact");
+    }
+
+    @Benchmark
+    public List<Employee> filterByJobTitleSubstring() {
+        return employeeService.filterEmployees(null, "Engineer", null, null);
+    }
+
+    @Benchmark
+    public List<SalaryStatistics> salaryStatisticsByDepartment() {
+        return employeeService.getSalaryStatistics("department");
+    }
+
+    @Benchmark
+    public List<SalaryDistribution> salaryDistributionByDepartment() {
+        return employeeService.getSalaryDistribution("department", 10);
+    }
+
+    @Benchmark
+    public Employee updateEmployee() {
+        long id = randomId();
+        // The row seeded from index i has ID i + 1; keep its own email, which is unique
+        long seeded = id - 1;
+        Employee employee = new Employee();
+        employee.setName("Employee " + seeded);
+        employee.setEmail("employee" + seeded + "@example.com");
+        employee.setPhoneNumber("555" + seeded);
+        employee.setSalary(30000.0 + ThreadLocalRandom.current().nextInt(70000));
+        employee.setRole("Staff");
+        employee.setDepartment(SeededApplication.DEPARTMENTS[(int) (seeded % SeededApplication.DEPARTMENTS.length)]);
+        employee.setJobTitle(SeededApplication.JOB_TITLES[(int) (seeded % SeededApplication.JOB_TITLES.length)]);
+        return employeeService.updateEmployee(id, employee);
+    }
+
+    private long randomId() {
+        return 1 + ThreadLocalRandom.current().nextInt(employees);
+    }
+}
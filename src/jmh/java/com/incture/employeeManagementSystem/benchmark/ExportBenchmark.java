@@ -0,0 +1,68 @@
+package com.incture.employeeManagementSystem.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incture.employeeManagementSystem.controller.EmployeeController;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.service.EmployeeService;
+
+/**
+ * Export paths: JSON serialization of the employee list and the CSV report, both as a
+ * file download and streamed to the response. The seeded data does not change, so the file
+ * download is generated on the first call and served from the report job cache after that.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    private ObjectMapper objectMapper;
+    private EmployeeController employeeController;
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication application) {
+        objectMapper = application.getBean(ObjectMapper.class);
+        employeeController = application.getBean(EmployeeController.class);
+        employees = application.getBean(EmployeeService.class).getAllEmployees();
+    }
+
+    @Benchmark
+    public byte[] serializeEmployeesToJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public ResponseEntity<Resource> generateReport() throws IOException {
+        return employeeController.generateReport(new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public int streamReport() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        employeeController.streamReport(false, response);
+        return response.getContentAsByteArray().length;
+    }
+}
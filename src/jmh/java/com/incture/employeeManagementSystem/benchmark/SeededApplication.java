@@ -0,0 +1,88 @@
+package com.incture.employeeManagementSystem.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.incture.employeeManagementSystem.EmployeeManagementSystemApplication;
+import com.incture.employeeManagementSystem.dao.RoleRepository;
+import com.incture.employeeManagementSystem.dao.UserRepository;
+import com.incture.employeeManagementSystem.entities.Role;
+import com.incture.employeeManagementSystem.entities.User;
+import com.incture.employeeManagementSystem.service.EmployeeSearchIndex;
+import com.incture.employeeManagementSystem.service.HeadcountAggregates;
+import com.incture.employeeManagementSystem.service.SalaryAnalytics;
+
+/**
+ * Application context shared by the JMH benchmarks. Boots the application without a web server
+ * against an in-memory H2 database in MySQL mode and seeds it with the configured number of employees.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    static final String[] DEPARTMENTS = { "IT", "Sales", "HR", "Finance", "Operations" };
+    static final String[] JOB_TITLES = { "Software Engineer", "Sales Manager", "Recruiter", "Analyst", "Support Engineer" };
+    static final String USERNAME = "bench-admin";
+
+    @Param({ "1000", "100000" })
+    public int employees;
+
+    ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN")
+                .run();
+        seed();
+        // The search index, headcount aggregates and salary analytics are loaded on startup and the
+        // rows above bypassed the change events that keep them current, so reload all three
+        context.getBean(EmployeeSearchIndex.class).rebuild();
+        context.getBean(HeadcountAggregates.class).rebuild();
+        context.getBean(SalaryAnalytics.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        Role admin = new Role();
+        admin.setName("ROLE_Admin");
+        admin = getBean(RoleRepository.class).save(admin);
+        User user = new User();
+        user.setUsername(USERNAME);
+        user.setPassword(getBean(PasswordEncoder.class).encode("bench-password"));
+        user.setRole(admin);
+        getBean(UserRepository.class).save(user);
+
+        List<Object[]> rows = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            rows.add(new Object[] { "Employee " + i, "employee" + i + "@example.com", "555" + i, 30000.0 + i % 70000,
+                    "Staff", DEPARTMENTS[i % DEPARTMENTS.length], JOB_TITLES[i % JOB_TITLES.length] });
+        }
+        getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO employee (name, email, phone_number, salary, role, department, job_title) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+}
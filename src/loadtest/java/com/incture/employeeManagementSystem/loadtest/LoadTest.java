@@ -0,0 +1,223 @@
+package com.incture.employeeManagementSystem.loadtest;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incture.employeeManagementSystem.EmployeeManagementSystemApplication;
+import com.incture.employeeManagementSystem.service.EmployeeSearchIndex;
+import com.incture.employeeManagementSystem.service.HeadcountAggregates;
+import com.incture.employeeManagementSystem.service.SalaryAnalytics;
+
+/**
+ * End-to-end load generator. Boots the full application on a random port against H2 in MySQL mode,
+ * logs every virtual user in through the form login once per role and drives a weighted mix of
+ * endpoints for a fixed duration. Throughput and latency percentiles are reported per endpoint,
+ * and the full latency histograms are written to target/loadtest.
+ *
+ * Settings are system properties: loadtest.users, loadtest.employees, loadtest.warmup and
+ * loadtest.duration (seconds) and loadtest.mix (e.g. "view=40,profile=40,filter=15,employees=5").
+ * Program arguments are passed to Spring, e.g. --spring.threads.virtual.enabled=true.
+ */
+public final class LoadTest {
+
+    static final String[] DEPARTMENTS = { "IT", "Sales", "HR", "Finance", "Operations" };
+    private static final String[] JOB_TITLES = { "Software Engineer", "Sales Manager", "Recruiter", "Analyst", "Support Engineer" };
+    private static final String[] ROLES = { "Admin", "Manager", "Employee" };
+    private static final String PASSWORD = "load-password";
+    private static final long MAX_LATENCY_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final int users = Integer.getInteger("loadtest.users", 50);
+    private final int employees = Integer.getInteger("loadtest.employees", 10_000);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 10));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration", 60));
+    private final Map<LoadTestEndpoint, Integer> mix = parseMix(
+            System.getProperty("loadtest.mix", "view=35,profile=35,filter=15,employees=5,report-stream=4,report=2,department-report=2,job-title-report=2"));
+    private final File outputDirectory = new File(System.getProperty("loadtest.output", "target/loadtest"));
+
+    private final Map<LoadTestEndpoint, Recorder> recorders = new EnumMap<>(LoadTestEndpoint.class);
+    private final Map<LoadTestEndpoint, AtomicLong> errors = new EnumMap<>(LoadTestEndpoint.class);
+    private volatile boolean measuring;
+
+    private LoadTest() {
+        for (LoadTestEndpoint endpoint : mix.keySet()) {
+            recorders.put(endpoint, new Recorder(MAX_LATENCY_NANOS, 3));
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run(args);
+    }
+
+    private void run(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN")
+                .run(args)) {
+            seed(context);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            System.out.printf("Logging in %d virtual users against %s%n", users, baseUrl);
+            List<Map<String, HttpClient>> sessions = new ArrayList<>(users);
+            for (int user = 0; user < users; user++) {
+                Map<String, HttpClient> clients = new LinkedHashMap<>();
+                for (String role : ROLES) {
+                    clients.put(role, login(baseUrl, role.toLowerCase() + "-" + user));
+                }
+                sessions.add(clients);
+            }
+
+            System.out.printf("Warming up for %ds, measuring for %ds%n", warmup.toSeconds(), duration.toSeconds());
+            long end = System.nanoTime() + warmup.plus(duration).toNanos();
+            try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (Map<String, HttpClient> clients : sessions) {
+                    virtualUsers.submit(() -> drive(baseUrl, clients, end));
+                }
+                Thread.sleep(warmup.toMillis());
+                recorders.values().forEach(Recorder::reset);
+                measuring = true;
+            }
+            report();
+        }
+    }
+
+    private Void drive(String baseUrl, Map<String, HttpClient> clients, long end) throws Exception {
+        List<LoadTestEndpoint> weighted = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        while (System.nanoTime() < end) {
+            LoadTestEndpoint endpoint = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.nextPath(employees))).GET().build();
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = clients.get(endpoint.getRole()).send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+            long latency = System.nanoTime() - start;
+            if (measuring) {
+                recorders.get(endpoint).recordValue(Math.min(latency, MAX_LATENCY_NANOS));
+                if (status != 200) {
+                    errors.get(endpoint).incrementAndGet();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void report() throws Exception {
+        outputDirectory.mkdirs();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        System.out.printf("%n%-18s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<LoadTestEndpoint, Recorder> entry : recorders.entrySet()) {
+            String key = entry.getKey().getKey();
+            Histogram histogram = entry.getValue().getIntervalHistogram();
+            long count = histogram.getTotalCount();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", count);
+            result.put("errors", errors.get(entry.getKey()).get());
+            result.put("throughputPerSecond", (double) count / duration.toSeconds());
+            result.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+            result.put("p90Millis", millis(histogram.getValueAtPercentile(90)));
+            result.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+            result.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+            result.put("maxMillis", millis(histogram.getMaxValue()));
+            summary.put(key, result);
+            System.out.printf("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", key, count, result.get("errors"),
+                    result.get("throughputPerSecond"), result.get("p50Millis"), result.get("p90Millis"),
+                    result.get("p99Millis"), result.get("p999Millis"), result.get("maxMillis"));
+            try (PrintStream out = new PrintStream(new File(outputDirectory, key + ".hgrm"))) {
+                histogram.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(outputDirectory, "summary.json"), summary);
+        System.out.println("Histograms and summary written to " + outputDirectory);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static HttpClient login(String baseUrl, String username) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=" + username + "&password=" + PASSWORD))
+                .build();
+        String location = client.send(login, HttpResponse.BodyHandlers.discarding()).headers().firstValue("Location").orElse("");
+        if (!URI.create(location).getPath().equals("/home")) {
+            throw new IllegalStateException("Login failed for " + username + ": redirected to " + location);
+        }
+        return client;
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // One hash for every account, BCrypt is deliberately slow
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<Object[]> accounts = new ArrayList<>();
+        for (int role = 0; role < ROLES.length; role++) {
+            jdbcTemplate.update("INSERT INTO roles (id, name) VALUES (?, ?)", role + 1, "ROLE_" + ROLES[role]);
+            for (int user = 0; user < users; user++) {
+                accounts.add(new Object[] { ROLES[role].toLowerCase() + "-" + user, password, role + 1 });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, role_id) VALUES (?, ?, ?)", accounts);
+
+        List<Object[]> rows = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            rows.add(new Object[] { "Employee " + i, "employee" + i + "@example.com", "555" + i, 30000.0 + i % 70000,
+                    "Staff", DEPARTMENTS[i % DEPARTMENTS.length], JOB_TITLES[i % JOB_TITLES.length] });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO employee (name, email, phone_number, salary, role, department, job_title) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        // The search index, headcount aggregates and salary analytics are loaded on startup and the
+        // rows above bypassed the change events that keep them current, so reload all three
+        context.getBean(EmployeeSearchIndex.class).rebuild();
+        context.getBean(HeadcountAggregates.class).rebuild();
+        context.getBean(SalaryAnalytics.class).rebuild();
+    }
+
+    private static Map<LoadTestEndpoint, Integer> parseMix(String mix) {
+        Map<LoadTestEndpoint, Integer> weights = new EnumMap<>(LoadTestEndpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            weights.put(LoadTestEndpoint.fromKey(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,59 @@
+package com.incture.employeeManagementSystem.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Endpoints driven by the load test, with the role whose session is used to call them.
+ */
+enum LoadTestEndpoint {
+
+    EMPLOYEES("employees", "Admin", "/employees"),
+    FILTER("filter", "Admin", "/employees/filter?department=%s"),
+    VIEW("view", "Manager", "/view/%d"),
+    PROFILE("profile", "Employee", "/profile/%d"),
+    REPORT("report", "Admin", "/employees/report"),
+    REPORT_STREAM("report-stream", "Admin", "/employees/report?stream=true"),
+    DEPARTMENT_REPORT("department-report", "Admin", "/employees/report/department/export"),
+    JOB_TITLE_REPORT("job-title-report", "Admin", "/employees/report/job-title/export");
+
+    private final String key;
+    private final String role;
+    private final String path;
+
+    LoadTestEndpoint(String key, String role, String path) {
+        this.key = key;
+        this.role = role;
+        this.path = path;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getRole() {
+        return role;
+    }
+
+    /**
+     * Builds the request path, picking a random employee or department where the path needs one.
+     * @param employees The number of seeded employees
+     * @return The path to request
+     */
+    String nextPath(int employees) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (this) {
+            case VIEW, PROFILE -> String.format(path, 1 + random.nextInt(employees));
+            case FILTER -> String.format(path, LoadTest.DEPARTMENTS[random.nextInt(LoadTest.DEPARTMENTS.length)]);
+            default -> path;
+        };
+    }
+
+    static LoadTestEndpoint fromKey(String key) {
+        for (LoadTestEndpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + key);
+    }
+}
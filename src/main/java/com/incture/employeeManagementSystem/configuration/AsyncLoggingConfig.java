@@ -0,0 +1,117 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Moves console and file output off the request threads. Once the application starts, every appender
+ * of the root logger is wrapped in an {@link AsyncAppender} that writes from a bounded queue on its own thread,
+ * and the request path loggers are rate limited by {@link RequestLogRateLimiter}.
+ * Disabled with employee.logging.async.enabled=false.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.logging.async.enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncLoggingConfig {
+
+    private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(AsyncLoggingConfig.class);
+
+    /**
+     * What happens to an event when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for room in the queue. No event is lost, but a slow disk slows down requests. */
+        BLOCK,
+        /** Drop INFO and lower events once the queue is 80% full, wait for room for warnings and errors. */
+        DISCARD_INFO,
+        /** Like DISCARD_INFO, but drop any event rather than wait. Logging never blocks a request. */
+        DROP
+    }
+
+    @Value("${employee.logging.async.queue-size:8192}")
+    private int queueSize;
+
+    @Value("${employee.logging.async.overflow:DROP}")
+    private OverflowPolicy overflow;
+
+    @Value("${employee.logging.rate-limit.loggers:com.incture.employeeManagementSystem.controller,com.incture.employeeManagementSystem.service}")
+    private List<String> rateLimitedLoggers;
+
+    @Value("${employee.logging.rate-limit.events-per-second:100}")
+    private int eventsPerSecond;
+
+    private final MeterRegistry registry;
+
+    public AsyncLoggingConfig(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Wraps the root appenders and installs the rate limiter.
+     */
+    @PostConstruct
+    public void configure() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            LOGGER.warn("Asynchronous logging needs Logback, leaving logging synchronous");
+            return;
+        }
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext();) {
+            appenders.add(it.next());
+        }
+        for (Appender<ILoggingEvent> appender : appenders) {
+            if (appender instanceof AsyncAppender) {
+                continue;
+            }
+            AsyncAppender async = wrap(context, appender);
+            root.addAppender(async);
+            root.detachAppender(appender);
+            Gauge.builder("logging.async.queue.size", async, AsyncAppender::getNumberOfElementsInQueue)
+                    .tag("appender", appender.getName())
+                    .description("Log events waiting to be written")
+                    .register(registry);
+        }
+
+        if (eventsPerSecond > 0) {
+            RequestLogRateLimiter limiter = new RequestLogRateLimiter(rateLimitedLoggers, eventsPerSecond);
+            limiter.setContext(context);
+            limiter.start();
+            context.addTurboFilter(limiter);
+            FunctionCounter.builder("logging.events.suppressed", limiter, RequestLogRateLimiter::getSuppressedCount)
+                    .description("Request path log events dropped by the rate limit")
+                    .register(registry);
+        }
+        LOGGER.info("Asynchronous logging enabled with queue size {}, overflow policy {} and {} events per second per request logger",
+                queueSize, overflow, eventsPerSecond);
+    }
+
+    private AsyncAppender wrap(LoggerContext context, Appender<ILoggingEvent> appender) {
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC-" + appender.getName());
+        async.setQueueSize(queueSize);
+        async.setDiscardingThreshold(overflow == OverflowPolicy.BLOCK ? 0 : queueSize / 5);
+        async.setNeverBlock(overflow == OverflowPolicy.DROP);
+        // Caller data would be captured on the request thread with a stack walk per event
+        async.setIncludeCallerData(false);
+        async.addAppender(appender);
+        async.start();
+        return async;
+    }
+}
@@ -0,0 +1,53 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Connection pool sizing policy for virtual-thread request handling.
+ * With platform threads, Tomcat's thread pool limits how many requests can wait for a connection.
+ * With virtual threads that limit is gone, so every request can queue on the pool at once.
+ * When virtual threads are enabled, this policy sizes the pool from the CPU count (2 x cores + 1)
+ * unless the size was configured explicitly, and shortens the connection timeout so requests
+ * that cannot get a connection fail fast instead of piling up.
+ */
+@Component
+public class DataSourcePoolPolicy implements BeanPostProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSourcePoolPolicy.class);
+
+    private final Environment environment;
+
+    public DataSourcePoolPolicy(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && virtualThreadsEnabled()) {
+            if (!environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+                int poolSize = environment.getProperty("employee.datasource.pool-size", Integer.class,
+                        Runtime.getRuntime().availableProcessors() * 2 + 1);
+                dataSource.setMaximumPoolSize(poolSize);
+            }
+            if (!environment.containsProperty("spring.datasource.hikari.connection-timeout")) {
+                Duration timeout = environment.getProperty("employee.datasource.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+                dataSource.setConnectionTimeout(timeout.toMillis());
+            }
+            LOGGER.info("Virtual threads enabled: connection pool limited to {} connections, {} ms acquire timeout",
+                    dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+        }
+        return bean;
+    }
+
+    private boolean virtualThreadsEnabled() {
+        return environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+    }
+}
@@ -0,0 +1,75 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.incture.employeeManagementSystem.service.EmployeeDataVersion;
+import com.incture.employeeManagementSystem.service.EmployeeService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Adds ETags to the employee read endpoints and answers a matching If-None-Match with 304
+ * before the handler runs, so an unchanged poll neither queries rows nor serializes them.
+ * Single employee reads are tagged with the employee's ID and version, read through the employee cache;
+ * lists and reports are tagged with the {@link EmployeeDataVersion}.
+ * The tags are weak, since the same content is served as JSON, Smile or CBOR, with or without gzip;
+ * Tomcat also leaves responses with strong ETags uncompressed. Tagged responses, 304s included, therefore vary
+ * on Accept, and on Accept-Encoding when compression is enabled, so a shared cache keeps each representation
+ * apart instead of revalidating one format with the tag of another.
+ */
+@Component
+public class EmployeeETagInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private EmployeeDataVersion employeeDataVersion;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Value("${server.compression.enabled:false}")
+    private boolean compression;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        String etag = etagFor(request);
+        if (etag == null) {
+            return true;
+        }
+        response.addHeader(HttpHeaders.VARY, compression ? "Accept, Accept-Encoding" : HttpHeaders.ACCEPT);
+        return !new ServletWebRequest(request, response).checkNotModified("W/" + etag);
+    }
+
+    private String etagFor(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables == null ? null : variables.get("id");
+        if (request.getParameter("since") != null) {
+            // A delta export is read up to a moving watermark, so the data version does not identify it
+            return null;
+        }
+        if (id == null) {
+            return employeeDataVersion.etag();
+        }
+        try {
+            // A missing employee is left to the handler, which answers 404
+            return employeeService.getEmployeeVersion(Long.valueOf(id))
+                    .map(version -> "\"employee-" + id + "-" + version + "\"")
+                    .orElse(null);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+
+/**
+ * Username and password authentication that reports a rejected password check as an
+ * {@link AuthenticationServiceException} caused by {@link ServiceBusyException}, instead of letting it
+ * escape the security filters as a 500. {@link LoginFailureHandler} turns it into a 503.
+ * The whole attempt is wrapped, since the password encoder is also called for unknown usernames,
+ * to take as long as a wrong password.
+ */
+public class LoadSheddingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        try {
+            return super.authenticate(authentication);
+        } catch (ServiceBusyException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param exception An authentication failure
+     * @return Whether the failure is a rejected password check rather than wrong credentials
+     */
+    public static boolean isServiceBusy(Exception exception) {
+        return exception.getCause() instanceof ServiceBusyException;
+    }
+}
@@ -0,0 +1,51 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.incture.employeeManagementSystem.service.EmployeeCache;
+import com.incture.employeeManagementSystem.service.UserAccountCache;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Metrics beyond what Spring Boot records on its own (HTTP requests, repository invocations,
+ * connection pool and Tomcat sessions): timings of methods annotated with {@code @Timed}
+ * and the hit rates of the employee and user account caches.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Records a timer for every method of a class or method annotated with {@code @Timed}.
+     * @param registry The meter registry
+     * @return The aspect applying the timers
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Publishes hits, misses, evictions and size of the employee cache as cache.* metrics with cache=employees.
+     * @param employeeCache The employee cache
+     * @return The binder registering the cache metrics
+     */
+    @Bean
+    public MeterBinder employeeCacheMetrics(EmployeeCache employeeCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, employeeCache.getNativeCache(), "employees");
+    }
+
+    /**
+     * Publishes the user account cache metrics as cache.* metrics with cache=users.
+     * @param userAccountCache The user account cache
+     * @return The binder registering the cache metrics
+     */
+    @Bean
+    public MeterBinder userAccountCacheMetrics(UserAccountCache userAccountCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, userAccountCache.getNativeCache(), "users");
+    }
+}
@@ -0,0 +1,69 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Periodically writes all metrics in Prometheus text format to a local file, for environments
+ * where nothing scrapes /actuator/prometheus. Enabled by setting employee.metrics.dump-file.
+ * The file is replaced atomically, so readers never see a partial dump.
+ */
+@Component
+@ConditionalOnProperty("employee.metrics.dump-file")
+public class MetricsFileExporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsFileExporter.class);
+
+    private final PrometheusMeterRegistry registry;
+    private final Path file;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-file-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MetricsFileExporter(PrometheusMeterRegistry registry,
+            @Value("${employee.metrics.dump-file}") Path file,
+            @Value("${employee.metrics.dump-interval:60s}") Duration interval) {
+        this.registry = registry;
+        this.file = file.toAbsolutePath();
+        scheduler.scheduleWithFixedDelay(this::export, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        LOGGER.info("Writing metrics to {} every {}", this.file, interval);
+    }
+
+    /**
+     * Writes the current metrics to the dump file.
+     */
+    void export() {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, registry.scrape(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write metrics to {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        export();
+    }
+}
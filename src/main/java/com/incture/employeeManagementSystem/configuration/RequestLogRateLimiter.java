@@ -0,0 +1,91 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Limits the number of INFO and lower events each request path logger may write per second.
+ * Warnings and errors are never limited. The decision is taken before the logging event is
+ * created or its message formatted, so suppressed events cost a counter update and nothing else.
+ */
+public class RequestLogRateLimiter extends TurboFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final List<String> loggerPrefixes;
+    private final int eventsPerSecond;
+    private final LongSupplier nanoTime;
+    private final ConcurrentMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    public RequestLogRateLimiter(List<String> loggerPrefixes, int eventsPerSecond) {
+        this(loggerPrefixes, eventsPerSecond, System::nanoTime);
+    }
+
+    RequestLogRateLimiter(List<String> loggerPrefixes, int eventsPerSecond, LongSupplier nanoTime) {
+        this.loggerPrefixes = List.copyOf(loggerPrefixes);
+        this.eventsPerSecond = eventsPerSecond;
+        this.nanoTime = nanoTime;
+        setName("request-log-rate-limiter");
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks pass no format; only actual log calls take from the budget
+        if (format == null || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !isLimited(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return tryAcquire(logger.getName()) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * @return The number of events suppressed since startup.
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    private boolean isLimited(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes one event from the logger's budget for the current second.
+     * The window holds the second in its upper and the count in its lower 32 bits, so it is updated with a single CAS.
+     */
+    private boolean tryAcquire(String loggerName) {
+        AtomicLong window = windows.get(loggerName);
+        if (window == null) {
+            window = windows.computeIfAbsent(loggerName, name -> new AtomicLong());
+        }
+        long second = (nanoTime.getAsLong() / NANOS_PER_SECOND) & 0xFFFFFFFFL;
+        while (true) {
+            long state = window.get();
+            long count = (state >>> 32) == second ? state & 0xFFFFFFFFL : 0;
+            if (count >= eventsPerSecond) {
+                suppressed.increment();
+                return false;
+            }
+            if (window.compareAndSet(state, second << 32 | (count + 1))) {
+                return true;
+            }
+        }
+    }
+}
@@ -1,28 +1,52 @@
 package com.incture.employeeManagementSystem.configuration;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
+
+import com.incture.employeeManagementSystem.service.TokenService;
+
+import io.micrometer.core.instrument.MeterRegistry;
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
 
-    // Constructor to inject UserDetailsService
-    public SecurityConfig(UserDetailsService userDetailsService) {
+    private final String authMode;
+
+    private final ObjectProvider<TokenService> tokenService;
+
+    // Constructor to inject UserDetailsService, the authentication mode and, in token mode, the token service
+    public SecurityConfig(UserDetailsService userDetailsService,
+            @Value("${employee.auth.mode:session}") String authMode,
+            ObjectProvider<TokenService> tokenService) {
         this.userDetailsService = userDetailsService;
+        this.authMode = authMode;
+        this.tokenService = tokenService;
     }
 
     /**
      * Configures the security filter chain for HTTP requests.
+     * By default users log in with a form and are tracked in an HTTP session. With employee.auth.mode=token,
+     * no session is created: clients get a signed token from /auth/token and send it on every request.
      * @param http HttpSecurity to configure security for requests
      * @return Configured SecurityFilterChain
      * @throws Exception If there is any error during configuration
@@ -33,17 +57,45 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())  // Disable CSRF for simplicity (can be enabled later for added security)
             .authorizeHttpRequests(auth -> auth
             		  .requestMatchers("/auth/register").permitAll()  // Allow user registration
-                .requestMatchers("/auth/login").permitAll()  // Allow login
+                .requestMatchers("/auth/login", "/auth/token").permitAll()  // Allow login
                 .requestMatchers("/employees/**").hasRole("Admin")  // Only Admin can access employees endpoints
                 .requestMatchers("/view/**").hasAnyRole("Manager")  // Admin and Manager can view employees
                 .requestMatchers("/profile/**").hasAnyRole("Employee")  // All roles can view profile
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()  // Allow health checks
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("Admin")  // Only Admin can read metrics
                 .anyRequest().authenticated()  // Any other request must be authenticated
-            )
+            );
+
+        if ("token".equals(authMode)) {
+            TokenService tokens = tokenService.getObject();
+            http
+                .addFilterBefore(new TokenAuthenticationFilter(tokens), LogoutFilter.class)  // Authenticate from the bearer token
+                .sessionManagement(sessionManagement -> sessionManagement
+                    .sessionCreationPolicy(SessionCreationPolicy.STATELESS)  // Never create or use a session
+                )
+                .exceptionHandling(exceptionHandling -> exceptionHandling
+                    .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))  // 401 instead of a login redirect
+                )
+                .logout(logout -> logout
+                    .logoutUrl("/auth/logout")  // Logout URL
+                    .addLogoutHandler((request, response, authentication) -> {
+                        Object claims = request.getAttribute(TokenAuthenticationFilter.CLAIMS_ATTRIBUTE);
+                        if (claims != null) {
+                            tokens.revoke((TokenService.Claims) claims);  // Revoke the presented token
+                        }
+                    })
+                    .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler(HttpStatus.NO_CONTENT))
+                    .permitAll()
+                );
+            return http.build();
+        }
+
+        http
             .formLogin(formLogin -> formLogin
                 .loginPage("/auth/login")  // Custom login page URL
                 .loginProcessingUrl("/auth/login")  // Endpoint to process login
                 .defaultSuccessUrl("/home", true)  // Redirect on successful login
-                .failureUrl("/auth/login?error=true")  // Redirect on login failure
+                .failureHandler(new LoginFailureHandler("/auth/login?error=true"))  // Redirect on login failure, 503 when shed
                 .permitAll()
             )
             .logout(logout -> logout
@@ -62,21 +114,44 @@ public class SecurityConfig {
 
     /**
      * Provides password encoder for encrypting passwords.
-     * @return BCryptPasswordEncoder for password encoding
+     * BCrypt runs on a dedicated pool of hashing threads with a bounded queue, so login bursts are shed with 503
+     * instead of occupying every request thread.
+     * @param strength BCrypt log rounds; existing hashes keep verifying with the strength they were created with
+     * @param threads Number of hashing threads, by default one per CPU
+     * @param queueCapacity Number of hashing requests allowed to wait for a thread
+     * @param registry Meter registry for the hashing metrics
+     * @return BCryptPasswordEncoder for password encoding, behind the bounded executor
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${employee.password.strength:10}") int strength,
+            @Value("${employee.password.hashing-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${employee.password.queue-capacity:64}") int queueCapacity,
+            MeterRegistry registry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, registry);  // Use BCrypt for password encryption
+    }
+
+    /**
+     * Provides the username and password authentication, reporting shed password checks so they can be answered with 503.
+     * @param passwordEncoder The password encoder
+     * @return Configured authentication provider
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();  // Use BCrypt for password encryption
+    public LoadSheddingAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
+        LoadSheddingAuthenticationProvider provider = new LoadSheddingAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return provider;
     }
 
     /**
-     * Provides an AuthenticationManager for authentication processes.
-     * @param http HttpSecurity to extract AuthenticationManager
+     * Provides the AuthenticationManager that checks usernames and passwords, used by the token login.
+     * @param authenticationConfiguration Spring Security's authentication configuration
      * @return Configured AuthenticationManager
      * @throws Exception If there is an error during configuration
      */
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
-        return http.getSharedObject(AuthenticationManager.class);
+    public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
+        return authenticationConfiguration.getAuthenticationManager();
     }
 }
@@ -0,0 +1,49 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Registers the ETag interceptor on the employee read endpoints and the binary response formats.
+ * Besides JSON, responses are available as Smile (Accept: application/x-jackson-smile) and
+ * CBOR (Accept: application/cbor), which Spring registers when the Jackson data formats are present.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private EmployeeETagInterceptor employeeETagInterceptor;
+
+    /**
+     * Smile converter that also writes repeated string values, such as departments and job titles,
+     * once per response and refers back to them afterwards. Replaces the default Smile converter.
+     *
+     * @param builder The object mapper builder configured by Spring Boot.
+     * @return The Smile converter.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(employeeETagInterceptor)
+                .addPathPatterns("/employees", "/employees/{id}", "/employees/page", "/employees/filter", "/employees/filter/page",
+                        "/employees/report", "/employees/report/**", "/employees/analytics/**", "/view", "/view/page", "/view/{id}", "/profile/{id}")
+                // A job's status changes without the data changing, and its file belongs to the version it was generated for.
+                // The change feed matches /employees/{id} but is a stream, not a representation of the data version.
+                .excludePathPatterns("/employees/report/jobs/**", "/employees/changes");
+    }
+}
@@ -11,11 +11,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.incture.employeeManagementSystem.dao.RoleRepository;
-import com.incture.employeeManagementSystem.dao.UserRepository;
 import com.incture.employeeManagementSystem.entities.Role;
 import com.incture.employeeManagementSystem.entities.User;
 import com.incture.employeeManagementSystem.entities.UserRegistrationRequest;
+import com.incture.employeeManagementSystem.service.RoleCatalog;
 import com.incture.employeeManagementSystem.service.UserService;
 
 @RestController
@@ -23,10 +22,10 @@ import com.incture.employeeManagementSystem.service.UserService;
 public class AuthController {
 
     @Autowired
-    private UserRepository userRepository;
+    private UserService userService;
 
     @Autowired
-    private RoleRepository roleRepository;
+    private RoleCatalog roleCatalog;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -41,12 +40,12 @@ public class AuthController {
     public ResponseEntity<?> registerUser(@RequestBody UserRegistrationRequest userRegistrationRequest) {
 
         // Check if username already exists
-        if (userRepository.findByUsername(userRegistrationRequest.getUsername()).isPresent()) {
+        if (userService.isUsernameTaken(userRegistrationRequest.getUsername())) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Username already exists.");
         }
 
-        // Find the role from the Role table
-        Optional<Role> roleOptional = roleRepository.findByName(userRegistrationRequest.getRole());
+        // Find the role in the preloaded role catalog
+        Optional<Role> roleOptional = roleCatalog.findByName(userRegistrationRequest.getRole());
         if (!roleOptional.isPresent()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Role not found.");
         }
@@ -61,7 +60,7 @@ public class AuthController {
         newUser.setRole(roleOptional.get());  // Set the role from the Role table
 
         // Save the new user to the database
-        userRepository.save(newUser);
+        userService.registerUser(newUser);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(newUser);  // Return the created user
     }
@@ -5,8 +5,22 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.MediaType;
+import com.incture.employeeManagementSystem.entities.BulkUpdateJob;
+import com.incture.employeeManagementSystem.entities.BulkUpdateRequest;
 import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.EmployeePage;
+import com.incture.employeeManagementSystem.entities.EmployeePatch;
+import com.incture.employeeManagementSystem.entities.ImportReport;
+import com.incture.employeeManagementSystem.entities.ReportJob;
+import com.incture.employeeManagementSystem.entities.SalaryDistribution;
+import com.incture.employeeManagementSystem.entities.SalaryStatistics;
+import com.incture.employeeManagementSystem.service.EmployeeBulkUpdateService;
+import com.incture.employeeManagementSystem.service.EmployeeCache;
+import com.incture.employeeManagementSystem.service.EmployeeImportService;
 import com.incture.employeeManagementSystem.service.EmployeeService;
+import com.incture.employeeManagementSystem.service.ReportJobService;
+import com.incture.employeeManagementSystem.exception.InvalidReportRequestException;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.opencsv.CSVWriter;
 
 
@@ -15,13 +29,20 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.core.io.UrlResource;
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/employees")
@@ -30,14 +51,37 @@ public class EmployeeController {
 	
 	
 	
-	private final String UPLOAD_DIR = "uploads/"; // Directory where files are stored
+
+	private static final String EMPLOYEE_REPORT = "employees_report.csv";
+	private static final String DEPARTMENT_REPORT = "employee_count_by_department.csv";
+	private static final String JOB_TITLE_REPORT = "employee_count_by_job_title.csv";
+
+	private static final String[] EMPLOYEE_REPORT_HEADER = { "ID", "Name", "Email", "Phone Number", "Salary", "Role", "Department", "Job Title" };
+
+	private static final String[] EMPLOYEE_DELTA_HEADER = { "ID", "Name", "Email", "Phone Number", "Salary", "Role", "Department", "Job Title", "Last Modified", "Deleted" };
+
+	/** Response header carrying the watermark to pass as {@code since} to the next delta export. */
+	private static final String WATERMARK_HEADER = "X-Watermark";
+
+	private static final int STREAM_BUFFER_SIZE = 8192;
 	
-	File directory = new File(UPLOAD_DIR);
 	
 	
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeBulkUpdateService employeeBulkUpdateService;
+
+    @Autowired
+    private ReportJobService reportJobService;
+
     /**
      * Endpoint to retrieve all employees.
      * @return List of all employees
@@ -48,6 +92,33 @@ public class EmployeeController {
         return employeeService.getAllEmployees();
     }
 
+    /**
+     * Endpoint to retrieve only the selected attributes of all employees.
+     * @param fields Comma separated attributes, e.g. "name,department" (the ID is always included)
+     * @return The selected attributes of every employee
+     */
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllEmployeeFields(@RequestParam String fields) {
+    	LOGGER.info("Getting fields {} of all employees", fields);
+        return employeeService.getEmployeeFields(fields);
+    }
+
+    /**
+     * Endpoint to retrieve employees one page at a time using keyset pagination.
+     * @param sort Optional sort keys, e.g. "department,-salary"
+     * @param cursor Optional continuation token returned with the previous page
+     * @param size Optional page size
+     * @return The page of employees and the cursor for the next page
+     */
+    @GetMapping("/page")
+    public EmployeePage getEmployeePage(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+    	LOGGER.info("Getting employee page");
+        return employeeService.getEmployeePage(null, null, null, null, sort, cursor, size);
+    }
+
     /**
      * Endpoint to retrieve a specific employee by ID.
      * @param id The ID of the employee
@@ -59,6 +130,35 @@ public class EmployeeController {
         return employeeService.getEmployeeById(id);
     }
 
+    /**
+     * Endpoint to retrieve only the selected attributes of an employee.
+     * @param id The ID of the employee
+     * @param fields Comma separated attributes, e.g. "name,email" (the ID is always included)
+     * @return The selected attributes of the employee
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getEmployeeFieldsById(@PathVariable Long id, @RequestParam String fields) {
+    	LOGGER.info("Getting fields {} of employee with ID: {}", fields, id);
+        return employeeService.getEmployeeFieldsById(id, fields);
+    }
+
+    /**
+     * Endpoint to retrieve the statistics of the employee cache.
+     * @return Hit, miss and eviction counts, hit rate and current size
+     */
+    @GetMapping("/cache/stats")
+    public Map<String, Object> getCacheStats() {
+        CacheStats stats = employeeCache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", employeeCache.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("averageLoadPenaltyNanos", stats.averageLoadPenalty());
+        return result;
+    }
+
     /**
      * Endpoint to create a new employee.
      * @param employee Employee object containing the details to store
@@ -71,6 +171,30 @@ public class EmployeeController {
         return "Employee Details Stored successfully!";
     }
 
+    /**
+     * Endpoint to import employees in bulk from CSV in the employee report layout.
+     * @param body The CSV request body
+     * @return The number of imported rows and the errors of rejected rows
+     * @throws IOException
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportReport importEmployeesCsv(InputStream body) throws IOException {
+    	LOGGER.info("Importing employees from CSV");
+        return employeeImportService.importCsv(body);
+    }
+
+    /**
+     * Endpoint to import employees in bulk from a JSON array.
+     * @param body The JSON request body
+     * @return The number of imported rows and the errors of rejected rows
+     * @throws IOException
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ImportReport importEmployeesJson(InputStream body) throws IOException {
+    	LOGGER.info("Importing employees from JSON");
+        return employeeImportService.importJson(body);
+    }
+
     /**
      * Endpoint to update an existing employee by ID.
      * @param id The ID of the employee to update
@@ -84,6 +208,41 @@ public class EmployeeController {
         return "Employee details updated successfully!";
     }
 
+    /**
+     * Endpoint to change some attributes of an employee, e.g. {"version": 3, "salary": 52000}.
+     * @param id The ID of the employee to change
+     * @param patch The version last read and the changed attributes
+     * @return The changed employee with its new version, or 409 if it was changed since the given version
+     */
+    @PatchMapping("/{id}")
+    public Employee patchEmployee(@PathVariable Long id, @RequestBody EmployeePatch patch) {
+    	LOGGER.info("Patching employee with ID: {}", id);
+        return employeeService.patchEmployee(id, patch);
+    }
+
+    /**
+     * Endpoint to change all employees matching the filter criteria, e.g. a salary revision for a department.
+     * The update runs in the background in short chunks; poll the returned job for progress.
+     * @param request The filter criteria and the change to apply
+     * @return The queued job
+     */
+    @PostMapping("/bulk-update")
+    public ResponseEntity<BulkUpdateJob> bulkUpdateEmployees(@RequestBody BulkUpdateRequest request) {
+    	LOGGER.info("Submitting bulk update of {}", request.getField());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(employeeBulkUpdateService.submit(request));
+    }
+
+    /**
+     * Endpoint to check the progress of a bulk update.
+     * @param jobId The ID of the bulk update job
+     * @return The job with its progress, or 404 if it is unknown
+     */
+    @GetMapping("/bulk-update/{jobId}")
+    public ResponseEntity<BulkUpdateJob> getBulkUpdateJob(@PathVariable String jobId) {
+        BulkUpdateJob job = employeeBulkUpdateService.getJob(jobId);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
     /**
      * Endpoint to delete an employee by ID.
      * @param id The ID of the employee to delete
@@ -100,6 +259,7 @@ public class EmployeeController {
      * @param department Optional department filter
      * @param jobTitle Optional job title filter
      * @param salary Optional salary filter
+     * @param match Optional match mode for department and job title: exact, prefix or contains (default)
      * @return Filtered list of employees
      */
     
@@ -107,9 +267,91 @@ public class EmployeeController {
     public List<Employee> filterEmployees(
             @RequestParam(required = false) String department,
             @RequestParam(required = false) String jobTitle,
-            @RequestParam(required = false) Double salary) {
+            @RequestParam(required = false) Double salary,
+            @RequestParam(required = false) String match) {
     	LOGGER.info("Filtering/Searching employees data");
-        return employeeService.filterEmployees(department, jobTitle, salary);
+        return employeeService.filterEmployees(department, jobTitle, salary, match);
+    }
+
+    /**
+     * Endpoint to filter employees returning only the selected attributes.
+     * @param fields Comma separated attributes, e.g. "name,salary" (the ID is always included)
+     * @param department Optional department filter
+     * @param jobTitle Optional job title filter
+     * @param salary Optional salary filter
+     * @param match Optional match mode for department and job title: exact, prefix or contains (default)
+     * @return The selected attributes of each matching employee
+     */
+    @GetMapping(value = "/filter", params = "fields")
+    public List<Map<String, Object>> filterEmployeeFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String jobTitle,
+            @RequestParam(required = false) Double salary,
+            @RequestParam(required = false) String match) {
+    	LOGGER.info("Filtering/Searching employee fields {}", fields);
+        return employeeService.filterEmployeeFields(fields, department, jobTitle, salary, match);
+    }
+
+    /**
+     * Endpoint to retrieve salary statistics per department, job title or role.
+     * @param groupBy The attribute to group by: department (default), jobTitle or role
+     * @return Count, min, max, sum, mean and standard deviation of salaries for each group
+     */
+    @GetMapping("/analytics/salary")
+    public List<SalaryStatistics> getSalaryStatistics(@RequestParam(defaultValue = "department") String groupBy) {
+    	LOGGER.info("Getting salary statistics by {}", groupBy);
+        return employeeService.getSalaryStatistics(groupBy);
+    }
+
+    /**
+     * Endpoint to retrieve approximate salary percentiles and histograms per department, job title or role.
+     * @param groupBy The attribute to group by: department (default), jobTitle or role
+     * @param buckets Optional number of histogram buckets, 10 by default
+     * @return Percentiles p10 to p99 and the histogram of salaries for each group
+     */
+    @GetMapping("/analytics/salary/distribution")
+    public List<SalaryDistribution> getSalaryDistribution(@RequestParam(defaultValue = "department") String groupBy,
+            @RequestParam(defaultValue = "10") int buckets) {
+    	LOGGER.info("Getting salary distribution by {}", groupBy);
+        return employeeService.getSalaryDistribution(groupBy, buckets);
+    }
+
+    /**
+     * Endpoint streaming committed employee creations, updates and deletions as server-sent events.
+     * @param after Optional sequence of the last change already received
+     * @param lastEventId The sequence of the last change received, sent by EventSource clients on reconnect
+     * @return The event stream
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+    	LOGGER.info("Streaming employee changes");
+        return employeeService.subscribeToChanges(after != null ? after : lastEventId);
+    }
+
+    /**
+     * Endpoint to filter employees one page at a time using keyset pagination.
+     * @param department Optional department filter
+     * @param jobTitle Optional job title filter
+     * @param salary Optional salary filter
+     * @param match Optional match mode for department and job title: exact, prefix or contains (default)
+     * @param sort Optional sort keys, e.g. "department,-salary"
+     * @param cursor Optional continuation token returned with the previous page
+     * @param size Optional page size
+     * @return The page of filtered employees and the cursor for the next page
+     */
+    @GetMapping("/filter/page")
+    public EmployeePage filterEmployeePage(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String jobTitle,
+            @RequestParam(required = false) Double salary,
+            @RequestParam(required = false) String match,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+    	LOGGER.info("Filtering/Searching employee page");
+        return employeeService.getEmployeePage(department, jobTitle, salary, match, sort, cursor, size);
     }
     
 /**
@@ -120,37 +362,26 @@ public class EmployeeController {
  */
 @GetMapping("/report/department/export")
 public ResponseEntity<Resource> exportEmployeeCountByDepartment() throws IOException {
-    // Create uploads directory if it doesn't exist
-    File directory = new File(UPLOAD_DIR);
-    if (!directory.exists()) {
-        directory.mkdirs();
-    }
-
-    // Define file path for the CSV
-    Path filePath = Paths.get(UPLOAD_DIR).resolve("employee_count_by_department.csv");
-
-    // Generate CSV data and write to the file
-    List<Object[]> reportData = employeeService.getEmployeeCountByDepartment();
-    try (CSVWriter writer = new CSVWriter(new FileWriter(filePath.toFile()))) {
-        String[] header = { "Department", "Employee Count" };
-        writer.writeNext(header);
-        for (Object[] record : reportData) {
-            String[] row = { (String) record[0], String.valueOf(record[1]) };
-            writer.writeNext(row);
-        }
-        LOGGER.info("Department report generated successfully.");
-    }
+    // Generated once per data version by the report jobs and shared with concurrent requests
+    Path filePath = reportJobService.generate(DEPARTMENT_REPORT, this::writeDepartmentReport);
+    LOGGER.info("Department report generated successfully.");
 
     // Serve the file for download
-    Resource resource = new UrlResource(filePath.toUri());
-    if (resource.exists() && resource.isReadable()) {
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
-    } else {
-        return ResponseEntity.notFound().build();
+    return download(filePath, DEPARTMENT_REPORT);
+}
+/**
+ * Streams the employee count by department directly to the response, without staging a file.
+ * @param gzip Whether to compress the CSV on the fly
+ * @param response The servlet response to write the CSV to
+ * @throws IOException
+ */
+@GetMapping(value = "/report/department/export", params = "stream=true")
+public void streamEmployeeCountByDepartment(@RequestParam(defaultValue = "false") boolean gzip,
+        HttpServletResponse response) throws IOException {
+    try (CSVWriter writer = openCsvStream(response, DEPARTMENT_REPORT, gzip)) {
+        writeDepartmentReport(writer);
     }
+    LOGGER.info("Department report streamed successfully.");
 }
 /**
  * Methods for exporting employee count based on grouping job title in CSV format are also included,
@@ -160,37 +391,26 @@ public ResponseEntity<Resource> exportEmployeeCountByDepartment() throws IOExcep
  */
 @GetMapping("/report/job-title/export")
 public ResponseEntity<Resource> exportEmployeeCountByJobTitle() throws IOException {
-    // Create uploads directory if it doesn't exist
-    File directory = new File(UPLOAD_DIR);
-    if (!directory.exists()) {
-        directory.mkdirs();
-    }
-
-    // Define file path for the CSV
-    Path filePath = Paths.get(UPLOAD_DIR).resolve("employee_count_by_job_title.csv");
-
-    // Generate CSV data and write to the file
-    List<Object[]> reportData = employeeService.getEmployeeCountByJobTitle();
-    try (CSVWriter writer = new CSVWriter(new FileWriter(filePath.toFile()))) {
-        String[] header = { "Job Title", "Employee Count" };
-        writer.writeNext(header);
-        for (Object[] record : reportData) {
-            String[] row = { (String) record[0], String.valueOf(record[1]) };
-            writer.writeNext(row);
-        }
-        LOGGER.info("Job title report generated successfully.");
-    }
+    // Generated once per data version by the report jobs and shared with concurrent requests
+    Path filePath = reportJobService.generate(JOB_TITLE_REPORT, this::writeJobTitleReport);
+    LOGGER.info("Job title report generated successfully.");
 
     // Serve the file for download
-    Resource resource = new UrlResource(filePath.toUri());
-    if (resource.exists() && resource.isReadable()) {
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
-    } else {
-        return ResponseEntity.notFound().build();
+    return download(filePath, JOB_TITLE_REPORT);
+}
+/**
+ * Streams the employee count by job title directly to the response, without staging a file.
+ * @param gzip Whether to compress the CSV on the fly
+ * @param response The servlet response to write the CSV to
+ * @throws IOException
+ */
+@GetMapping(value = "/report/job-title/export", params = "stream=true")
+public void streamEmployeeCountByJobTitle(@RequestParam(defaultValue = "false") boolean gzip,
+        HttpServletResponse response) throws IOException {
+    try (CSVWriter writer = openCsvStream(response, JOB_TITLE_REPORT, gzip)) {
+        writeJobTitleReport(writer);
     }
+    LOGGER.info("Job title report streamed successfully.");
 }
     /**
      * Methods for exporting employee data in CSV format are also included,
@@ -201,51 +421,212 @@ public ResponseEntity<Resource> exportEmployeeCountByJobTitle() throws IOExcepti
      */
     @GetMapping("/report")
     public ResponseEntity<Resource> generateReport(HttpServletResponse response) throws IOException {
-    	 if (!directory.exists()) {
-    	        directory.mkdirs();  // Create directory if it doesn't exist
-    	    }
-    	    
-    	List<Employee> employees = employeeService.getAllEmployees();  // Get employees from DB
-
-        // Define a temporary file path where the CSV will be saved
-        Path filePath = Paths.get(UPLOAD_DIR).resolve("employees_report.csv");
-
-        // Create the CSV file and write employee data
-        try (CSVWriter writer = new CSVWriter(new FileWriter(filePath.toFile()))) {
-            // Write the CSV header
-            String[] header = { "ID", "Name", "Email", "Phone Number", "Salary", "Role", "Department", "Job Title" };
-            writer.writeNext(header);
-
-            // Write each employee record to CSV
-            for (Employee employee : employees) {
-                String[] data = { 
-                    String.valueOf(employee.getId()), 
-                    employee.getName(), 
-                    employee.getEmail(), 
-                    employee.getPhoneNumber(), 
-                    String.valueOf(employee.getSalary()), 
-                    employee.getRole(), 
-                    employee.getDepartment(), 
-                    employee.getJobTitle() 
-                };
-                writer.writeNext(data);
-            }
+        // Generated once per data version by the report jobs and shared with concurrent requests
+        Path filePath;
+        try {
+            filePath = reportJobService.generate(EMPLOYEE_REPORT, this::writeEmployeeReport);
         } catch (IOException e) {
             LOGGER.error("Error generating employee report", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
 
         // Load the file as a Resource
-        Resource resource = new UrlResource(filePath.toUri());
+        return download(filePath, EMPLOYEE_REPORT);
+    }
+
+    /**
+     * Endpoint to generate a report in the background. While the employee data is unchanged, every
+     * request for the same report gets the same job, and a completed job is served without generating it again.
+     * @param type The report: employees, department or job-title
+     * @return The new or existing job
+     */
+    @PostMapping("/report/jobs")
+    public ResponseEntity<ReportJob> submitReportJob(@RequestParam String type) {
+    	LOGGER.info("Submitting report job for {}", type);
+        ReportJob job = switch (type) {
+            case "employees" -> reportJobService.submit(EMPLOYEE_REPORT, this::writeEmployeeReport);
+            case "department" -> reportJobService.submit(DEPARTMENT_REPORT, this::writeDepartmentReport);
+            case "job-title" -> reportJobService.submit(JOB_TITLE_REPORT, this::writeJobTitleReport);
+            default -> throw new InvalidReportRequestException(
+                    "Unknown report type: " + type + ", expected employees, department or job-title");
+        };
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Endpoint to check the progress of a report job.
+     * @param jobId The ID of the report job
+     * @return The job with its status, or 404 if it is unknown or was superseded
+     */
+    @GetMapping("/report/jobs/{jobId}")
+    public ResponseEntity<ReportJob> getReportJob(@PathVariable String jobId) {
+        ReportJob job = reportJobService.getJob(jobId);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
+    /**
+     * Endpoint to download the file of a completed report job.
+     * @param jobId The ID of the report job
+     * @return The report, or 404 if the job is unknown, superseded or not completed
+     * @throws IOException
+     */
+    @GetMapping("/report/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadReportJob(@PathVariable String jobId) throws IOException {
+        ReportJob job = reportJobService.getJob(jobId);
+        Path filePath = reportJobService.getFile(jobId).orElse(null);
+        if (job == null || filePath == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return download(filePath, job.getReport());
+    }
+
+    /**
+     * Streams the employee report straight to the response. Rows are read from the database
+     * through a cursor and written as they arrive, so memory use does not depend on table size
+     * and the first bytes are sent before the query has finished.
+     * The watermark header lets the client continue with delta exports.
+     * @param gzip Whether to compress the CSV on the fly
+     * @param response The servlet response to write the CSV to
+     * @throws IOException
+     */
+    @GetMapping(value = "/report", params = { "stream=true", "!since" })
+    public void streamReport(@RequestParam(defaultValue = "false") boolean gzip, HttpServletResponse response) throws IOException {
+        response.setHeader(WATERMARK_HEADER, employeeService.getExportWatermark(null).toString());
+        try (CSVWriter writer = openCsvStream(response, EMPLOYEE_REPORT, gzip)) {
+            writeEmployeeReport(writer);
+        }
+        LOGGER.info("Employee report streamed successfully.");
+    }
 
+    /**
+     * Streams only the employees changed after a watermark: inserted and updated rows first, then one row
+     * per deleted employee with only its ID, deletion time and Deleted set to true. The new watermark is
+     * returned in a header; rows changed after it are left for the next export.
+     * @param since The watermark returned by the previous export, e.g. 2024-05-01T02:00:00Z
+     * @param gzip Whether to compress the CSV on the fly
+     * @param response The servlet response to write the CSV to
+     * @throws IOException
+     */
+    @GetMapping(value = "/report", params = "since")
+    public void streamReportSince(@RequestParam String since, @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        Instant from = employeeService.parseWatermark(since);
+        Instant until = employeeService.getExportWatermark(from);
+        response.setHeader(WATERMARK_HEADER, until.toString());
+        try (CSVWriter writer = openCsvStream(response, "employees_delta.csv", gzip)) {
+            writer.writeNext(EMPLOYEE_DELTA_HEADER);
+            employeeService.streamEmployeeChanges(from, until,
+                    employee -> writer.writeNext(toDeltaRow(toReportRow(employee), employee.getLastModified(), false)),
+                    tombstone -> writer.writeNext(toDeltaRow(new String[] { String.valueOf(tombstone.getEmployeeId()) },
+                            tombstone.getDeletedAt(), true)));
+        }
+        LOGGER.info("Employee changes after {} streamed successfully.", from);
+    }
+
+    /**
+     * Writes the employee report, reading the employees through a cursor.
+     * @param writer The CSV writer to write to
+     */
+    private void writeEmployeeReport(CSVWriter writer) {
+        writer.writeNext(EMPLOYEE_REPORT_HEADER);
+        employeeService.streamAllEmployees(employee -> writer.writeNext(toReportRow(employee)));
+    }
+
+    /**
+     * Writes the employee count by department.
+     * @param writer The CSV writer to write to
+     */
+    private void writeDepartmentReport(CSVWriter writer) {
+        writer.writeNext(new String[] { "Department", "Employee Count" });
+        for (Object[] record : employeeService.getEmployeeCountByDepartment()) {
+            writer.writeNext(new String[] { (String) record[0], String.valueOf(record[1]) });
+        }
+    }
+
+    /**
+     * Writes the employee count by job title.
+     * @param writer The CSV writer to write to
+     */
+    private void writeJobTitleReport(CSVWriter writer) {
+        writer.writeNext(new String[] { "Job Title", "Employee Count" });
+        for (Object[] record : employeeService.getEmployeeCountByJobTitle()) {
+            writer.writeNext(new String[] { (String) record[0], String.valueOf(record[1]) });
+        }
+    }
+
+    /**
+     * Serves a generated report file for download.
+     * @param filePath The report file
+     * @param fileName The file name offered to the client
+     * @return The file, or 404 if it no longer exists
+     * @throws IOException
+     */
+    private ResponseEntity<Resource> download(Path filePath, String fileName) throws IOException {
+        Resource resource = new UrlResource(filePath.toUri());
         if (resource.exists() && resource.isReadable()) {
             return ResponseEntity.ok()
                     .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
                     .body(resource);
         } else {
             return ResponseEntity.notFound().build();
         }
     }
-    
+
+    /**
+     * Converts an employee into a row of the employee report.
+     * @param employee The employee to convert
+     * @return The CSV columns in report header order
+     */
+    private static String[] toReportRow(Employee employee) {
+        return new String[] {
+            String.valueOf(employee.getId()),
+            employee.getName(),
+            employee.getEmail(),
+            employee.getPhoneNumber(),
+            String.valueOf(employee.getSalary()),
+            employee.getRole(),
+            employee.getDepartment(),
+            employee.getJobTitle()
+        };
+    }
+
+    /**
+     * Extends report columns to a row of the delta export, leaving missing columns empty.
+     * @param columns The leading report columns
+     * @param changedAt The modification or deletion time
+     * @param deleted Whether the row is a deletion
+     * @return The CSV columns in delta header order
+     */
+    private static String[] toDeltaRow(String[] columns, Instant changedAt, boolean deleted) {
+        String[] row = Arrays.copyOf(columns, EMPLOYEE_DELTA_HEADER.length);
+        row[row.length - 2] = String.valueOf(changedAt);
+        row[row.length - 1] = String.valueOf(deleted);
+        return row;
+    }
+
+    /**
+     * Prepares the response for a CSV download and opens a writer on its output stream,
+     * optionally wrapped in a gzip stream.
+     * @param response The servlet response to write to
+     * @param fileName The file name offered to the client
+     * @param gzip Whether to compress the output
+     * @return A CSV writer that must be closed to finish the response
+     * @throws IOException
+     */
+    private CSVWriter openCsvStream(HttpServletResponse response, String fileName, boolean gzip) throws IOException {
+        if (gzip) {
+            fileName = fileName + ".gz";
+            response.setContentType("application/gzip");
+        } else {
+            response.setContentType("text/csv");
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            out = new GZIPOutputStream(out, STREAM_BUFFER_SIZE);
+        }
+        return new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
 }
@@ -1,9 +1,12 @@
 package com.incture.employeeManagementSystem.controller;
 
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.incture.employeeManagementSystem.entities.Employee;
@@ -26,4 +29,15 @@ public class EmployeeProfileController {
         return employeeService.getEmployeeById(id);
     }
 
+    /**
+     * Endpoint to retrieve only the selected attributes of an employee.
+     * @param id The ID of the employee
+     * @param fields Comma separated attributes, e.g. "name,email" (the ID is always included)
+     * @return The selected attributes of the employee
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getEmployeeFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return employeeService.getEmployeeFieldsById(id, fields);
+    }
+
 }
@@ -1,14 +1,17 @@
 package com.incture.employeeManagementSystem.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.EmployeePage;
 import com.incture.employeeManagementSystem.service.EmployeeService;
 
 @RestController
@@ -27,6 +30,31 @@ public class ManagerController {
         return employeeService.getAllEmployees();
     }
 
+    /**
+     * Endpoint to retrieve only the selected attributes of all employees.
+     * @param fields Comma separated attributes, e.g. "name,department" (the ID is always included)
+     * @return The selected attributes of every employee
+     */
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllEmployeeFields(@RequestParam String fields) {
+        return employeeService.getEmployeeFields(fields);
+    }
+
+    /**
+     * Endpoint to retrieve employees one page at a time using keyset pagination.
+     * @param sort Optional sort keys, e.g. "department,-salary"
+     * @param cursor Optional continuation token returned with the previous page
+     * @param size Optional page size
+     * @return The page of employees and the cursor for the next page
+     */
+    @GetMapping("/page")
+    public EmployeePage getEmployeePage(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return employeeService.getEmployeePage(null, null, null, null, sort, cursor, size);
+    }
+
     /**
      * Endpoint to retrieve a specific employee by ID.
      * @param id The ID of the employee
@@ -37,4 +65,15 @@ public class ManagerController {
         return employeeService.getEmployeeById(id);
     }
 
+    /**
+     * Endpoint to retrieve only the selected attributes of an employee.
+     * @param id The ID of the employee
+     * @param fields Comma separated attributes, e.g. "name,email" (the ID is always included)
+     * @return The selected attributes of the employee
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getEmployeeFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        return employeeService.getEmployeeFieldsById(id, fields);
+    }
+
 }
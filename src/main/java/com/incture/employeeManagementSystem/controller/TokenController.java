@@ -0,0 +1,62 @@
+package com.incture.employeeManagementSystem.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.incture.employeeManagementSystem.configuration.LoadSheddingAuthenticationProvider;
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+import com.incture.employeeManagementSystem.service.TokenService;
+
+/**
+ * Login endpoint of the stateless authentication mode (employee.auth.mode=token).
+ */
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnProperty(name = "employee.auth.mode", havingValue = "token")
+public class TokenController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenController.class);
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private TokenService tokenService;
+
+    /**
+     * Endpoint to exchange a username and password for a signed access token.
+     * Takes the same form parameters as the session login.
+     *
+     * @param username The username
+     * @param password The password
+     * @return The token and its expiry, or 401 if the credentials are wrong
+     * @throws ServiceBusyException if password checks are at capacity
+     */
+    @PostMapping("/token")
+    public ResponseEntity<?> issueToken(@RequestParam String username, @RequestParam String password) {
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+        } catch (AuthenticationException e) {
+            if (LoadSheddingAuthenticationProvider.isServiceBusy(e)) {
+                throw (ServiceBusyException) e.getCause();
+            }
+            LOGGER.warn("Token request rejected for user: {}", username);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid username or password.");
+        }
+        String role = authentication.getAuthorities().iterator().next().getAuthority();
+        return ResponseEntity.ok(tokenService.issue(authentication.getName(), role));
+    }
+}
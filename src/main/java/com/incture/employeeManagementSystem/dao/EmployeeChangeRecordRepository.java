@@ -0,0 +1,42 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.incture.employeeManagementSystem.entities.EmployeeChangeRecord;
+
+/**
+ * Repository for the persisted employee change feed.
+ */
+public interface EmployeeChangeRecordRepository extends JpaRepository<EmployeeChangeRecord, Long> {
+
+    /**
+     * Reads the changes following a position of the feed.
+     *
+     * @param sequence The last sequence already seen.
+     * @param limit The maximum number of changes to read.
+     * @return The changes in sequence order.
+     */
+    List<EmployeeChangeRecord> findBySequenceGreaterThanOrderBySequence(long sequence, Limit limit);
+
+    /**
+     * @return The sequence of the latest persisted change, 0 if there is none.
+     */
+    @Query("SELECT COALESCE(MAX(c.sequence), 0) FROM EmployeeChangeRecord c")
+    long findLastSequence();
+
+    /**
+     * Drops changes up to a position of the feed.
+     *
+     * @param sequence The last sequence to drop.
+     * @return The number of dropped changes.
+     */
+    @Modifying
+    @Query("DELETE FROM EmployeeChangeRecord c WHERE c.sequence <= :sequence")
+    int deleteUpTo(@Param("sequence") long sequence);
+}
@@ -0,0 +1,46 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.incture.employeeManagementSystem.entities.EmployeeChangeSequence;
+
+/**
+ * Repository for the counter of the employee change feed sequence numbers.
+ */
+public interface EmployeeChangeSequenceRepository extends JpaRepository<EmployeeChangeSequence, Integer> {
+
+    /**
+     * @return The last sequence number handed out, empty before the counter is created.
+     */
+    @Query("SELECT s.lastSequence FROM EmployeeChangeSequence s WHERE s.id = 1")
+    Optional<Long> findLastSequence();
+
+    /**
+     * Moves the counter forward, locking its row until the transaction ends.
+     *
+     * @param count The number of sequence numbers to take.
+     * @return The number of updated rows, 0 before the counter is created.
+     */
+    @Modifying
+    @Query("UPDATE EmployeeChangeSequence s SET s.lastSequence = s.lastSequence + :count WHERE s.id = 1")
+    int advance(@Param("count") long count);
+
+    /**
+     * Reserves the next sequence numbers. Must run in a transaction; a concurrent reservation waits
+     * for it to end, so no number is handed out twice and none is handed out again after a rollback.
+     *
+     * @param count The number of sequence numbers to take.
+     * @return The last of the reserved numbers.
+     */
+    default long reserve(long count) {
+        if (advance(count) == 0) {
+            throw new IllegalStateException("The change feed sequence counter does not exist");
+        }
+        return findLastSequence().orElseThrow();
+    }
+}
@@ -0,0 +1,96 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.InvalidFieldSelectionException;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * The employee attributes selected by a fields parameter, e.g. "name,department".
+ * Only these columns are queried and serialized. The ID is always included, first.
+ */
+public class EmployeeFields {
+
+    private static final List<String> ATTRIBUTES = List.of(
+            "id", "name", "email", "phoneNumber", "salary", "role", "department", "jobTitle");
+
+    private final List<String> attributes;
+
+    private EmployeeFields(List<String> attributes) {
+        this.attributes = List.copyOf(attributes);
+    }
+
+    /**
+     * Parses a comma separated list of attribute names.
+     *
+     * @param expression The fields expression (can be null or blank, selecting only the ID).
+     * @return The selected attributes, starting with the ID.
+     * @throws InvalidFieldSelectionException if an attribute is unknown.
+     */
+    public static EmployeeFields parse(String expression) {
+        List<String> attributes = new ArrayList<>();
+        attributes.add("id");
+        if (expression != null && !expression.isBlank()) {
+            for (String token : expression.split(",")) {
+                String attribute = token.trim();
+                if (!ATTRIBUTES.contains(attribute)) {
+                    throw new InvalidFieldSelectionException("Unknown employee field: " + attribute);
+                }
+                if (!attributes.contains(attribute)) {
+                    attributes.add(attribute);
+                }
+            }
+        }
+        return new EmployeeFields(attributes);
+    }
+
+    /**
+     * @return The selected attribute names, starting with the ID.
+     */
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Builds the response for a row selected with {@link #getAttributes()}, in the same order.
+     *
+     * @param row The selected values.
+     * @return The selected attributes by name.
+     */
+    public Map<String, Object> toMap(Tuple row) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < attributes.size(); i++) {
+            values.put(attributes.get(i), row.get(i));
+        }
+        return values;
+    }
+
+    /**
+     * Builds the response from an already loaded employee.
+     *
+     * @param employee The employee.
+     * @return The selected attributes by name.
+     */
+    public Map<String, Object> project(Employee employee) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String attribute : attributes) {
+            values.put(attribute, switch (attribute) {
+                case "id" -> employee.getId();
+                case "name" -> employee.getName();
+                case "email" -> employee.getEmail();
+                case "phoneNumber" -> employee.getPhoneNumber();
+                case "salary" -> employee.getSalary();
+                case "role" -> employee.getRole();
+                case "department" -> employee.getDepartment();
+                case "jobTitle" -> employee.getJobTitle();
+                default -> throw new IllegalStateException(attribute);
+            });
+        }
+        return values;
+    }
+}
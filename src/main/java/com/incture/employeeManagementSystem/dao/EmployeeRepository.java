@@ -1,12 +1,19 @@
 package com.incture.employeeManagementSystem.dao;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import com.incture.employeeManagementSystem.entities.Employee;
 
 /**
@@ -14,7 +21,7 @@ import com.incture.employeeManagementSystem.entities.Employee;
  * This interface extends JpaRepository to provide built-in methods for data access.
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
 
     /**
      * Filters employees based on department, job title, and salary.
@@ -49,5 +56,77 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     @Query("SELECT e.jobTitle, COUNT(e) FROM Employee e GROUP BY e.jobTitle")
     List<Object[]> countEmployeesByJobTitle();
-}
 
+    /**
+     * Streams all employees in ID order using a JDBC fetch-size cursor, so rows are read
+     * from the database in small batches instead of being loaded all at once.
+     * Must be consumed inside a read-only transaction and closed after use.
+     * With MySQL, add useCursorFetch=true to the datasource URL to enable server-side cursors.
+     *
+     * @return A stream over all employees.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAllEmployees();
+
+    /**
+     * Streams the employees inserted or updated in a time range, seeking the last_modified index.
+     * Must be consumed inside a read-only transaction and closed after use.
+     *
+     * @param since The exclusive start of the range.
+     * @param until The inclusive end of the range.
+     * @return A stream over the changed employees in modification order.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e WHERE e.lastModified > :since AND e.lastModified <= :until ORDER BY e.lastModified, e.id")
+    Stream<Employee> streamModifiedBetween(@Param("since") Instant since, @Param("until") Instant until);
+
+    /**
+     * Streams the ID, department, job title and salary of every employee, for building in-memory indexes.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return A stream of Object arrays holding ID, department, job title and salary.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id, e.department, e.jobTitle, e.salary FROM Employee e")
+    Stream<Object[]> streamSearchAttributes();
+
+    /**
+     * Streams the ID, department, job title, role and salary of every employee in ID order, for building the analytics columns.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return A stream of Object arrays holding ID, department, job title, role and salary.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id, e.department, e.jobTitle, e.role, e.salary FROM Employee e ORDER BY e.id")
+    Stream<Object[]> streamAnalyticsAttributes();
+
+    /**
+     * @return The smallest employee ID, or null if there are no employees.
+     */
+    @Query("SELECT MIN(e.id) FROM Employee e")
+    Long findMinId();
+
+    /**
+     * @return The largest employee ID, or null if there are no employees.
+     */
+    @Query("SELECT MAX(e.id) FROM Employee e")
+    Long findMaxId();
+
+    /**
+     * Deletes an employee with a single DELETE statement, provided it still has the expected version.
+     *
+     * @param id The ID of the employee.
+     * @param version The version the employee must have.
+     * @return The number of deleted rows, 0 if the employee does not exist or has another version.
+     */
+    @Modifying
+    @Query("DELETE FROM Employee e WHERE e.id = :id AND e.version = :version")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("version") long version);
+}
@@ -0,0 +1,103 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+
+/**
+ * Custom repository fragment for employee queries that cannot be expressed as derived or annotated queries.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Fetches one page of employees using keyset (seek) pagination.
+     * Rows are ordered by the given sort keys, with nulls after all values, and only rows
+     * positioned after the given key values are returned, so no OFFSET is needed.
+     *
+     * @param department The department to filter by (can be null).
+     * @param jobTitle The job title to filter by (can be null).
+     * @param salary The minimum salary to filter by (can be null).
+     * @param match How the department and job title are matched.
+     * @param sort The sort keys, ending with the ID key.
+     * @param after The sort key values of the last row of the previous page, or null for the first page.
+     * @param limit The maximum number of rows to return.
+     * @return The employees on the page.
+     */
+    List<Employee> findPageAfter(String department, String jobTitle, Double salary, MatchMode match,
+            List<EmployeeSort> sort, Object[] after, int limit);
+
+    /**
+     * Fetches the employees matching the filter, ordered by ID.
+     *
+     * @param department The department to filter by (can be null).
+     * @param jobTitle The job title to filter by (can be null).
+     * @param salary The minimum salary to filter by (can be null).
+     * @param match How the department and job title are matched.
+     * @return The matching employees.
+     */
+    List<Employee> findMatching(String department, String jobTitle, Double salary, MatchMode match);
+
+    /**
+     * Selects and locks (SELECT ... FOR UPDATE) the employees in an ID range that match the filter.
+     * Must run inside a transaction; the locks are held until it ends.
+     *
+     * @param department The department to filter by (can be null).
+     * @param jobTitle The job title to filter by (can be null).
+     * @param salary The minimum salary to filter by (can be null).
+     * @param fromId The first ID of the range, inclusive.
+     * @param toId The last ID of the range, inclusive.
+     * @return The matching employees.
+     */
+    List<Employee> lockForUpdate(String department, String jobTitle, Double salary, long fromId, long toId);
+
+    /**
+     * Sets one column of the given employees, increments their version and sets their modification time
+     * with a single UPDATE statement.
+     *
+     * @param ids The IDs of the employees to update.
+     * @param attribute The attribute to set; must be a known, trusted attribute name.
+     * @param expression The JPQL expression for the new value, which may refer to the row as "e" and to the parameter ":value".
+     * @param value The value bound to ":value".
+     * @param lastModified The modification time to set.
+     * @return The number of updated rows.
+     */
+    int updateAttribute(List<Long> ids, String attribute, String expression, Object value, Instant lastModified);
+
+    /**
+     * Sets the given attributes of an employee, increments its version and sets its modification time
+     * with a single UPDATE statement, provided the employee still has the expected version.
+     *
+     * @param id The ID of the employee.
+     * @param version The version the employee must have.
+     * @param values The new value of each attribute; attribute names must be known, trusted names.
+     * @param lastModified The modification time to set.
+     * @return The number of updated rows, 0 if the employee does not exist or has another version.
+     */
+    int updateAttributes(Long id, long version, Map<String, Object> values, Instant lastModified);
+
+    /**
+     * Selects only the given attributes of the employees matching the filter, ordered by ID.
+     * Rows are read as tuples, so no entities are created or managed.
+     *
+     * @param fields The attributes to select.
+     * @param department The department to filter by (can be null).
+     * @param jobTitle The job title to filter by (can be null).
+     * @param salary The minimum salary to filter by (can be null).
+     * @param match How the department and job title are matched.
+     * @return The selected attributes of each matching employee.
+     */
+    List<Map<String, Object>> findFields(EmployeeFields fields, String department, String jobTitle, Double salary,
+            MatchMode match);
+
+    /**
+     * Selects only the given attributes of the employees with the given IDs, ordered by ID.
+     *
+     * @param fields The attributes to select.
+     * @param ids The IDs of the employees.
+     * @return The selected attributes of each employee found.
+     */
+    List<Map<String, Object>> findFieldsByIds(EmployeeFields fields, Collection<Long> ids);
+}
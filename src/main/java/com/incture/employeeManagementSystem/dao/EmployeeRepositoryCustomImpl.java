@@ -0,0 +1,220 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.util.ArrayList;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria API implementation of {@link EmployeeRepositoryCustom}.
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Employee> findPageAfter(String department, String jobTitle, Double salary, MatchMode match,
+            List<EmployeeSort> sort, Object[] after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> employee = query.from(Employee.class);
+
+        List<Predicate> predicates = filterPredicates(cb, employee, department, jobTitle, salary, match);
+        if (after != null) {
+            predicates.add(seekPredicate(cb, employee, sort, after));
+        }
+        query.select(employee).where(predicates.toArray(new Predicate[0])).orderBy(orders(cb, employee, sort));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Employee> lockForUpdate(String department, String jobTitle, Double salary, long fromId, long toId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> employee = query.from(Employee.class);
+
+        List<Predicate> predicates = filterPredicates(cb, employee, department, jobTitle, salary, MatchMode.CONTAINS);
+        predicates.add(cb.between(employee.get("id"), fromId, toId));
+        query.select(employee).where(predicates.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(query).setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+    }
+
+    @Override
+    public List<Employee> findMatching(String department, String jobTitle, Double salary, MatchMode match) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> employee = query.from(Employee.class);
+
+        List<Predicate> predicates = filterPredicates(cb, employee, department, jobTitle, salary, match);
+        query.select(employee).where(predicates.toArray(new Predicate[0])).orderBy(cb.asc(employee.get("id")));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public int updateAttribute(List<Long> ids, String attribute, String expression, Object value, Instant lastModified) {
+        return entityManager.createQuery("UPDATE Employee e SET e." + attribute + " = " + expression
+                + ", e.version = e.version + 1, e.lastModified = :lastModified WHERE e.id IN :ids")
+                .setParameter("value", value)
+                .setParameter("lastModified", lastModified)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public int updateAttributes(Long id, long version, Map<String, Object> values, Instant lastModified) {
+        StringBuilder jpql = new StringBuilder("UPDATE Employee e SET ");
+        for (String attribute : values.keySet()) {
+            jpql.append("e.").append(attribute).append(" = :").append(attribute).append(", ");
+        }
+        jpql.append("e.version = e.version + 1, e.lastModified = :lastModified WHERE e.id = :id AND e.version = :version");
+
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("id", id)
+                .setParameter("version", version)
+                .setParameter("lastModified", lastModified);
+        values.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(EmployeeFields fields, String department, String jobTitle, Double salary,
+            MatchMode match) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+
+        List<Predicate> predicates = filterPredicates(cb, employee, department, jobTitle, salary, match);
+        query.multiselect(selections(employee, fields)).where(predicates.toArray(new Predicate[0])).orderBy(cb.asc(employee.get("id")));
+
+        return entityManager.createQuery(query).getResultStream().map(fields::toMap).toList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByIds(EmployeeFields fields, Collection<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> employee = query.from(Employee.class);
+
+        query.multiselect(selections(employee, fields)).where(employee.get("id").in(ids)).orderBy(cb.asc(employee.get("id")));
+
+        return entityManager.createQuery(query).getResultStream().map(fields::toMap).toList();
+    }
+
+    private List<Selection<?>> selections(Root<Employee> employee, EmployeeFields fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attribute : fields.getAttributes()) {
+            selections.add(employee.get(attribute));
+        }
+        return selections;
+    }
+
+    /**
+     * Builds the filter conditions; with {@link MatchMode#CONTAINS} they are the same as
+     * {@link EmployeeRepository#filterEmployees(String, String, Double)}.
+     */
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Employee> employee,
+            String department, String jobTitle, Double salary, MatchMode match) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (department != null) {
+            predicates.add(textPredicate(cb, employee.get("department"), department, match));
+        }
+        if (jobTitle != null) {
+            predicates.add(textPredicate(cb, employee.get("jobTitle"), jobTitle, match));
+        }
+        if (salary != null) {
+            predicates.add(cb.greaterThanOrEqualTo(employee.get("salary"), salary));
+        }
+        return predicates;
+    }
+
+    /**
+     * Exact and prefix matches treat the value literally, so a '%' or '_' in it cannot turn an
+     * index seek into a scan; a prefix LIKE 'x%' is still a range on the index.
+     */
+    private Predicate textPredicate(CriteriaBuilder cb, Path<String> path, String value, MatchMode match) {
+        switch (match) {
+            case EXACT:
+                return cb.equal(path, value);
+            case PREFIX:
+                return cb.like(path, escapeLike(value) + "%", LIKE_ESCAPE);
+            default:
+                return cb.like(path, "%" + value + "%");
+        }
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Matches rows that sort after the given key values:
+     * (k1 after v1) OR (k1 = v1 AND k2 after v2) OR ...
+     * Nulls sort last, so a null value is only followed by rows that tie on it.
+     */
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Employee> employee, List<EmployeeSort> sort, Object[] after) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> ties = new ArrayList<>();
+        for (int i = 0; i < sort.size(); i++) {
+            EmployeeSort key = sort.get(i);
+            Path<Comparable<Object>> path = employee.get(key.getAttribute());
+            Object value = after[i];
+            if (value != null) {
+                @SuppressWarnings("unchecked")
+                Comparable<Object> bound = (Comparable<Object>) value;
+                Predicate follows = key.isDescending() ? cb.lessThan(path, bound) : cb.greaterThan(path, bound);
+                if (key.isNullable()) {
+                    follows = cb.or(follows, cb.isNull(path));
+                }
+                List<Predicate> alternative = new ArrayList<>(ties);
+                alternative.add(follows);
+                alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+            }
+            ties.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Orders by each sort key, placing nulls after all values for nullable keys.
+     */
+    private List<Order> orders(CriteriaBuilder cb, Root<Employee> employee, List<EmployeeSort> sort) {
+        List<Order> orders = new ArrayList<>();
+        for (EmployeeSort key : sort) {
+            Path<Object> path = employee.get(key.getAttribute());
+            if (key.isNullable()) {
+                orders.add(cb.asc(cb.selectCase().when(cb.isNull(path), 1).otherwise(0)));
+            }
+            orders.add(key.isDescending() ? cb.desc(path) : cb.asc(path));
+        }
+        return orders;
+    }
+}
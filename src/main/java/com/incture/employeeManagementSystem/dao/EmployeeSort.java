@@ -0,0 +1,133 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.InvalidPageRequestException;
+
+/**
+ * A single sort key used for keyset (seek) pagination over employees.
+ * Only a fixed set of attributes can be sorted on; the employee ID is always
+ * appended as the final key so every row has a unique position.
+ */
+public class EmployeeSort {
+
+    public static final EmployeeSort ID = new EmployeeSort("id", false);
+
+    private static final Map<String, Class<?>> SORTABLE_ATTRIBUTES = Map.of(
+            "id", Long.class,
+            "name", String.class,
+            "email", String.class,
+            "department", String.class,
+            "jobTitle", String.class,
+            "role", String.class,
+            "salary", Double.class);
+
+    private final String attribute;
+    private final boolean descending;
+
+    private EmployeeSort(String attribute, boolean descending) {
+        this.attribute = attribute;
+        this.descending = descending;
+    }
+
+    /**
+     * Parses a comma separated sort expression such as "department,-salary".
+     * A leading '-' sorts the attribute in descending order.
+     *
+     * @param expression The sort expression (can be null or blank).
+     * @return The sort keys, always ending with the ID key.
+     * @throws InvalidPageRequestException if an attribute cannot be sorted on.
+     */
+    public static List<EmployeeSort> parse(String expression) {
+        List<EmployeeSort> sort = new ArrayList<>();
+        if (expression != null && !expression.isBlank()) {
+            for (String token : expression.split(",")) {
+                String key = token.trim();
+                boolean descending = key.startsWith("-");
+                String attribute = descending ? key.substring(1) : key;
+                if (!SORTABLE_ATTRIBUTES.containsKey(attribute)) {
+                    throw new InvalidPageRequestException("Cannot sort employees by: " + attribute);
+                }
+                if (!attribute.equals(ID.attribute)) {
+                    sort.add(new EmployeeSort(attribute, descending));
+                }
+            }
+        }
+        sort.add(ID);
+        return sort;
+    }
+
+    /**
+     * Formats sort keys back into the expression accepted by {@link #parse(String)}.
+     *
+     * @param sort The sort keys.
+     * @return The sort expression.
+     */
+    public static String format(List<EmployeeSort> sort) {
+        List<String> keys = new ArrayList<>();
+        for (EmployeeSort key : sort) {
+            keys.add(key.descending ? "-" + key.attribute : key.attribute);
+        }
+        return String.join(",", keys);
+    }
+
+    /**
+     * Reads this key's attribute from an employee.
+     *
+     * @param employee The employee to read from.
+     * @return The attribute value (can be null).
+     */
+    public Object valueOf(Employee employee) {
+        return switch (attribute) {
+            case "id" -> employee.getId();
+            case "name" -> employee.getName();
+            case "email" -> employee.getEmail();
+            case "department" -> employee.getDepartment();
+            case "jobTitle" -> employee.getJobTitle();
+            case "role" -> employee.getRole();
+            default -> employee.getSalary();
+        };
+    }
+
+    /**
+     * Converts a decoded cursor value to the Java type of this key's attribute.
+     *
+     * @param value The decoded value (can be null).
+     * @return The value with the attribute's type.
+     * @throws InvalidPageRequestException if the value cannot be converted.
+     */
+    public Object coerce(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = SORTABLE_ATTRIBUTES.get(attribute);
+        if (type == Long.class && value instanceof Number number) {
+            return number.longValue();
+        }
+        if (type == Double.class && value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (type == String.class && value instanceof String) {
+            return value;
+        }
+        throw new InvalidPageRequestException("Invalid cursor value for " + attribute);
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * @return Whether the attribute can hold nulls, which then sort after all values.
+     */
+    public boolean isNullable() {
+        return !attribute.equals(ID.attribute);
+    }
+}
@@ -0,0 +1,45 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.incture.employeeManagementSystem.entities.EmployeeTombstone;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository for the tombstones of deleted employees.
+ */
+public interface EmployeeTombstoneRepository extends JpaRepository<EmployeeTombstone, Long> {
+
+    /**
+     * Streams the tombstones of the employees deleted in a time range. Must be consumed inside a transaction.
+     *
+     * @param since The exclusive start of the range.
+     * @param until The inclusive end of the range.
+     * @return The tombstones in deletion order.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM EmployeeTombstone t WHERE t.deletedAt > :since AND t.deletedAt <= :until ORDER BY t.deletedAt, t.employeeId")
+    Stream<EmployeeTombstone> streamDeletedBetween(@Param("since") Instant since, @Param("until") Instant until);
+
+    /**
+     * Drops the tombstones older than the retention.
+     *
+     * @param before The time before which tombstones are dropped.
+     * @return The number of dropped tombstones.
+     */
+    @Modifying
+    @Query("DELETE FROM EmployeeTombstone t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") Instant before);
+}
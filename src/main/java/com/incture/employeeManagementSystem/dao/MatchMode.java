@@ -0,0 +1,38 @@
+package com.incture.employeeManagementSystem.dao;
+
+import java.util.Locale;
+
+import com.incture.employeeManagementSystem.exception.InvalidFilterException;
+
+/**
+ * How a department or job title filter is matched against the stored value.
+ * Exact and prefix matches can seek the (department, job_title, salary) index; a contains match
+ * (LIKE '%...%') cannot, and is answered from the in-memory search index when possible.
+ */
+public enum MatchMode {
+
+    /** The value equals the filter. */
+    EXACT,
+    /** The value starts with the filter. */
+    PREFIX,
+    /** The value contains the filter, which may use LIKE wildcards. */
+    CONTAINS;
+
+    /**
+     * Parses a match mode parameter, ignoring case.
+     *
+     * @param value "exact", "prefix" or "contains" (can be null, meaning contains).
+     * @return The match mode.
+     * @throws InvalidFilterException if the value is not a match mode.
+     */
+    public static MatchMode of(String value) {
+        if (value == null || value.isBlank()) {
+            return CONTAINS;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFilterException("Unknown match mode: " + value + ", use exact, prefix or contains");
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.incture.employeeManagementSystem.dao;
 
 import com.incture.employeeManagementSystem.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 /**
@@ -17,4 +19,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return An Optional containing the User if found, or an empty Optional if no user is found with the specified username.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Finds a user by their username, loading their role in the same query.
+     *
+     * @param username The username of the user to find.
+     * @return An Optional containing the User with its Role, or an empty Optional if no user has the specified username.
+     */
+    @Query("SELECT u FROM User u JOIN FETCH u.role WHERE u.username = :username")
+    Optional<User> findWithRoleByUsername(@Param("username") String username);
+
+    /**
+     * Checks whether a username is taken.
+     *
+     * @param username The username to check.
+     * @return true if a user with the specified username exists.
+     */
+    boolean existsByUsername(String username);
 }
\ No newline at end of file
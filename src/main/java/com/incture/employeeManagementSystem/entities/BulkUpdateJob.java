@@ -0,0 +1,87 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.time.Instant;
+
+/**
+ * Progress of an asynchronous bulk update. It is updated by the worker after every chunk
+ * and can be polled while the update runs.
+ */
+public class BulkUpdateJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final BulkUpdateRequest request;
+    private volatile Status status = Status.QUEUED;
+    private volatile long processedChunks;
+    private volatile long totalChunks;
+    private volatile long updatedRows;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public BulkUpdateJob(String id, BulkUpdateRequest request) {
+        this.id = id;
+        this.request = request;
+    }
+
+    public void start(long totalChunks) {
+        this.totalChunks = totalChunks;
+        this.startedAt = Instant.now();
+        this.status = Status.RUNNING;
+    }
+
+    public void chunkDone(long rows) {
+        this.updatedRows += rows;
+        this.processedChunks++;
+    }
+
+    public void complete() {
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+	public String getId() {
+		return id;
+	}
+
+	public BulkUpdateRequest getRequest() {
+		return request;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public long getProcessedChunks() {
+		return processedChunks;
+	}
+
+	public long getTotalChunks() {
+		return totalChunks;
+	}
+
+	public long getUpdatedRows() {
+		return updatedRows;
+	}
+
+	public Instant getStartedAt() {
+		return startedAt;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public String getError() {
+		return error;
+	}
+}
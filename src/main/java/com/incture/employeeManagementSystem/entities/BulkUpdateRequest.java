@@ -0,0 +1,53 @@
+package com.incture.employeeManagementSystem.entities;
+
+/**
+ * Request to change many employees at once. The criteria are the same as the employee filter
+ * (department and job title substrings, minimum salary); the change applies an operation to one field,
+ * e.g. field "salary", operation "multiply", value 1.05, or field "jobTitle", operation "set", value "Engineer".
+ */
+public class BulkUpdateRequest {
+
+	private String department;
+	private String jobTitle;
+	private Double salary;
+	private String field;
+	private String operation;
+	private Object value;
+
+	public String getDepartment() {
+		return department;
+	}
+	public void setDepartment(String department) {
+		this.department = department;
+	}
+	public String getJobTitle() {
+		return jobTitle;
+	}
+	public void setJobTitle(String jobTitle) {
+		this.jobTitle = jobTitle;
+	}
+	public Double getSalary() {
+		return salary;
+	}
+	public void setSalary(Double salary) {
+		this.salary = salary;
+	}
+	public String getField() {
+		return field;
+	}
+	public void setField(String field) {
+		this.field = field;
+	}
+	public String getOperation() {
+		return operation;
+	}
+	public void setOperation(String operation) {
+		this.operation = operation;
+	}
+	public Object getValue() {
+		return value;
+	}
+	public void setValue(Object value) {
+		this.value = value;
+	}
+}
@@ -0,0 +1,48 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.time.Instant;
+
+/**
+ * One change of the employee change feed, as sent to subscribers.
+ */
+public class ChangeFeedEvent {
+
+	private final long sequence;
+	private final String type;
+	private final Long employeeId;
+	private final Employee employee;
+	private final Instant changedAt;
+
+	public ChangeFeedEvent(long sequence, String type, Long employeeId, Employee employee, Instant changedAt) {
+		this.sequence = sequence;
+		this.type = type;
+		this.employeeId = employeeId;
+		this.employee = employee;
+		this.changedAt = changedAt;
+	}
+
+	/**
+	 * @return The position of the change in the feed; each change has the next number.
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+	/**
+	 * @return CREATED, UPDATED or DELETED.
+	 */
+	public String getType() {
+		return type;
+	}
+	public Long getEmployeeId() {
+		return employeeId;
+	}
+	/**
+	 * @return The employee after the change, null for a deletion.
+	 */
+	public Employee getEmployee() {
+		return employee;
+	}
+	public Instant getChangedAt() {
+		return changedAt;
+	}
+}
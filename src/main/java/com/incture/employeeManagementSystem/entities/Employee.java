@@ -1,11 +1,28 @@
 package com.incture.employeeManagementSystem.entities;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
+/**
+ * The (department, job_title, salary) index serves exact and prefix filters on department, with or
+ * without a job title and minimum salary; email is unique. The last_modified index serves delta exports.
+ */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_employee_department_job_title_salary", columnList = "department, job_title, salary"),
+        @Index(name = "uk_employee_email", columnList = "email", unique = true),
+        @Index(name = "idx_employee_last_modified", columnList = "last_modified") })
 public class Employee {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,6 +40,14 @@ public class Employee {
     private String role;
     private String department;
     private String jobTitle;
+
+    /** Incremented on every update; the default lets plain JDBC inserts leave it out. */
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
+    /** Set on every insert and update, including the bulk statements that bypass the entity. */
+    private Instant lastModified;
     public Employee() {
     }
 	public Employee(Long id, String name, String email, String phoneNumber, Double salary, String role,
@@ -37,6 +62,16 @@ public class Employee {
 		this.department = department;
 		this.jobTitle = jobTitle;
 	}
+	/**
+	 * Copy constructor, used to take detached snapshots of an employee's state.
+	 * @param other The employee to copy
+	 */
+	public Employee(Employee other) {
+		this(other.id, other.name, other.email, other.phoneNumber, other.salary, other.role,
+				other.department, other.jobTitle);
+		this.version = other.version;
+		this.lastModified = other.lastModified;
+	}
 	public Long getId() {
 		return id;
 	}
@@ -85,6 +120,24 @@ public class Employee {
 	public void setJobTitle(String jobTitle) {
 		this.jobTitle = jobTitle;
 	}
+	public Long getVersion() {
+		return version;
+	}
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+	public Instant getLastModified() {
+		return lastModified;
+	}
+	public void setLastModified(Instant lastModified) {
+		this.lastModified = lastModified;
+	}
+	@PrePersist
+	@PreUpdate
+	void touch() {
+		// At the precision of the column, so the stamp is stored as compared with watermarks
+		lastModified = Instant.now().truncatedTo(ChronoUnit.MICROS);
+	}
 	@Override
 	public String toString() {
 		return "Employee [id=" + id + ", name=" + name + ", email=" + email + ", phoneNumber=" + phoneNumber
@@ -0,0 +1,65 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * A persisted entry of the employee change feed. The sequence is assigned by the feed in commit
+ * order, so it is the primary key rather than generated. The payload is the employee after the
+ * change as JSON, null for a deletion.
+ */
+@Entity
+@Table(name = "employee_change")
+public class EmployeeChangeRecord {
+
+    @Id
+    private Long sequence;
+
+    @Column(nullable = false, length = 16)
+    private String type;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    @Lob
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+	public Long getSequence() {
+		return sequence;
+	}
+	public void setSequence(Long sequence) {
+		this.sequence = sequence;
+	}
+	public String getType() {
+		return type;
+	}
+	public void setType(String type) {
+		this.type = type;
+	}
+	public Long getEmployeeId() {
+		return employeeId;
+	}
+	public void setEmployeeId(Long employeeId) {
+		this.employeeId = employeeId;
+	}
+	public String getPayload() {
+		return payload;
+	}
+	public void setPayload(String payload) {
+		this.payload = payload;
+	}
+	public Instant getChangedAt() {
+		return changedAt;
+	}
+	public void setChangedAt(Instant changedAt) {
+		this.changedAt = changedAt;
+	}
+}
@@ -0,0 +1,41 @@
+package com.incture.employeeManagementSystem.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The last sequence number handed out by the employee change feed. The table has a single row,
+ * with ID 1, which is locked while numbers are reserved, so every instance of the application
+ * takes its numbers from the database rather than from memory.
+ */
+@Entity
+@Table(name = "employee_change_sequence")
+public class EmployeeChangeSequence {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    public EmployeeChangeSequence() {
+    }
+	public EmployeeChangeSequence(long lastSequence) {
+		this.id = 1;
+		this.lastSequence = lastSequence;
+	}
+	public Integer getId() {
+		return id;
+	}
+	public void setId(Integer id) {
+		this.id = id;
+	}
+	public Long getLastSequence() {
+		return lastSequence;
+	}
+	public void setLastSequence(Long lastSequence) {
+		this.lastSequence = lastSequence;
+	}
+}
@@ -0,0 +1,32 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.util.List;
+
+/**
+ * One page of employees returned by cursor-based pagination.
+ * The next cursor is an opaque token to pass back to fetch the following page.
+ */
+public class EmployeePage {
+
+    private List<Employee> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public EmployeePage(List<Employee> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+	public List<Employee> getContent() {
+		return content;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public boolean isHasNext() {
+		return hasNext;
+	}
+}
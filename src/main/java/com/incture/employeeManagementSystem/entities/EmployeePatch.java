@@ -0,0 +1,31 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+
+/**
+ * Partial update of an employee. Only the attributes present in the request are changed,
+ * e.g. {"version": 3, "salary": 52000, "jobTitle": "Senior Engineer"}.
+ * The version is the one last read by the client; the update is rejected if the employee changed since.
+ */
+public class EmployeePatch {
+
+	private Long version;
+	private final Map<String, Object> changes = new LinkedHashMap<>();
+
+	public Long getVersion() {
+		return version;
+	}
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+	public Map<String, Object> getChanges() {
+		return changes;
+	}
+	@JsonAnySetter
+	public void setChange(String attribute, Object value) {
+		changes.put(attribute, value);
+	}
+}
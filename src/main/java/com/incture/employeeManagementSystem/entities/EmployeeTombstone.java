@@ -0,0 +1,43 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Records the deletion of an employee, so delta exports can report rows that no longer exist.
+ * Written in the transaction that deletes the employee and kept for the tombstone retention.
+ */
+@Entity
+@Table(name = "employee_tombstone", indexes = @Index(name = "idx_employee_tombstone_deleted_at", columnList = "deleted_at"))
+public class EmployeeTombstone {
+
+    @Id
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    public EmployeeTombstone() {
+    }
+	public EmployeeTombstone(Long employeeId, Instant deletedAt) {
+		this.employeeId = employeeId;
+		this.deletedAt = deletedAt;
+	}
+	public Long getEmployeeId() {
+		return employeeId;
+	}
+	public void setEmployeeId(Long employeeId) {
+		this.employeeId = employeeId;
+	}
+	public Instant getDeletedAt() {
+		return deletedAt;
+	}
+	public void setDeletedAt(Instant deletedAt) {
+		this.deletedAt = deletedAt;
+	}
+}
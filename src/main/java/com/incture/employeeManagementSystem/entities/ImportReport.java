@@ -0,0 +1,83 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk employee import: row counts and the errors of rejected rows.
+ * Only the first errors are listed, to keep the report small for very large inputs.
+ */
+public class ImportReport {
+
+    public static final int MAX_LISTED_ERRORS = 1000;
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Records a rejected row.
+     * @param row The 1-based row number in the input, counting the CSV header
+     * @param message Why the row was rejected
+     */
+    public synchronized void addError(long row, String message) {
+        failedRows++;
+        if (errors.size() < MAX_LISTED_ERRORS) {
+            errors.add(new RowError(row, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    public synchronized void addImported(long rows) {
+        importedRows += rows;
+    }
+
+    public synchronized void addTotal(long rows) {
+        totalRows += rows;
+    }
+
+	public long getTotalRows() {
+		return totalRows;
+	}
+
+	public long getImportedRows() {
+		return importedRows;
+	}
+
+	public long getFailedRows() {
+		return failedRows;
+	}
+
+	public boolean isErrorsTruncated() {
+		return errorsTruncated;
+	}
+
+	public List<RowError> getErrors() {
+		return errors;
+	}
+
+    /**
+     * The error for a single rejected input row.
+     */
+    public static class RowError {
+
+        private final long row;
+        private final String message;
+
+        public RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+		public long getRow() {
+			return row;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+    }
+}
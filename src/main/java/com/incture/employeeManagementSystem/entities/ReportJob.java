@@ -0,0 +1,86 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.time.Instant;
+
+/**
+ * An asynchronous report generation. Requests for the same report while the employee data is
+ * unchanged share one job, so its result is generated once and downloaded as often as needed.
+ */
+public class ReportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final String report;
+    private final long dataVersion;
+    private final Instant submittedAt = Instant.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile long size;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    public ReportJob(String id, String report, long dataVersion) {
+        this.id = id;
+        this.report = report;
+        this.dataVersion = dataVersion;
+    }
+
+    public void start() {
+        this.status = Status.RUNNING;
+    }
+
+    public void complete(long size) {
+        this.size = size;
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @return The file name of the report, e.g. employees_report.csv.
+	 */
+	public String getReport() {
+		return report;
+	}
+
+	/**
+	 * @return The employee data version the report was generated for.
+	 */
+	public long getDataVersion() {
+		return dataVersion;
+	}
+
+	public Instant getSubmittedAt() {
+		return submittedAt;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return The size of the generated file in bytes, 0 until the job has completed.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public String getError() {
+		return error;
+	}
+}
@@ -5,8 +5,11 @@ import jakarta.persistence.*;
 import java.util.Optional;
 import java.util.Set;
 
+import com.incture.employeeManagementSystem.service.AuthCacheEvictionListener;
+
 @Entity
 @Table(name = "roles")
+@EntityListeners(AuthCacheEvictionListener.class)
 public class Role {
     
     @Id
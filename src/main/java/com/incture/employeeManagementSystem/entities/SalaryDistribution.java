@@ -0,0 +1,81 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Approximate salary distribution of one group of employees, e.g. one department: percentiles
+ * and an equal-width histogram between the lowest and highest salary. Employees without a salary
+ * are not counted.
+ */
+public class SalaryDistribution {
+
+	private final String group;
+	private final long count;
+	private final double rankError;
+	private final Map<String, Double> percentiles;
+	private final List<Bucket> histogram;
+
+	public SalaryDistribution(String group, long count, double rankError, Map<String, Double> percentiles,
+			List<Bucket> histogram) {
+		this.group = group;
+		this.count = count;
+		this.rankError = rankError;
+		this.percentiles = percentiles;
+		this.histogram = histogram;
+	}
+
+	public String getGroup() {
+		return group;
+	}
+	/**
+	 * @return The number of employees with a salary.
+	 */
+	public long getCount() {
+		return count;
+	}
+	/**
+	 * @return The bound on the rank error of the percentiles as a fraction of the count, zero when they are exact.
+	 */
+	public double getRankError() {
+		return rankError;
+	}
+	/**
+	 * @return The salary at each percentile, keyed p10, p25, p50, p75, p90, p95 and p99.
+	 */
+	public Map<String, Double> getPercentiles() {
+		return percentiles;
+	}
+	public List<Bucket> getHistogram() {
+		return histogram;
+	}
+
+    /**
+     * The estimated number of salaries above the lower and up to the upper bound.
+     * The first bucket also counts salaries equal to its lower bound.
+     */
+    public static class Bucket {
+
+        private final double lower;
+        private final double upper;
+        private final long count;
+
+        public Bucket(double lower, double upper, long count) {
+            this.lower = lower;
+            this.upper = upper;
+            this.count = count;
+        }
+
+		public double getLower() {
+			return lower;
+		}
+
+		public double getUpper() {
+			return upper;
+		}
+
+		public long getCount() {
+			return count;
+		}
+    }
+}
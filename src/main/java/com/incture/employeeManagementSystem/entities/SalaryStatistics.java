@@ -0,0 +1,61 @@
+package com.incture.employeeManagementSystem.entities;
+
+/**
+ * Salary statistics of one group of employees, e.g. one department.
+ * Employees without a salary count towards employees only; min, max, mean and standard deviation
+ * are null when no employee of the group has a salary.
+ */
+public class SalaryStatistics {
+
+	private final String group;
+	private final long employees;
+	private final long count;
+	private final Double min;
+	private final Double max;
+	private final double sum;
+	private final Double mean;
+	private final Double standardDeviation;
+
+	public SalaryStatistics(String group, long employees, long count, Double min, Double max, double sum, Double mean,
+			Double standardDeviation) {
+		this.group = group;
+		this.employees = employees;
+		this.count = count;
+		this.min = min;
+		this.max = max;
+		this.sum = sum;
+		this.mean = mean;
+		this.standardDeviation = standardDeviation;
+	}
+
+	public String getGroup() {
+		return group;
+	}
+	public long getEmployees() {
+		return employees;
+	}
+	/**
+	 * @return The number of employees with a salary.
+	 */
+	public long getCount() {
+		return count;
+	}
+	public Double getMin() {
+		return min;
+	}
+	public Double getMax() {
+		return max;
+	}
+	public double getSum() {
+		return sum;
+	}
+	public Double getMean() {
+		return mean;
+	}
+	/**
+	 * @return The population standard deviation of the salaries.
+	 */
+	public Double getStandardDeviation() {
+		return standardDeviation;
+	}
+}
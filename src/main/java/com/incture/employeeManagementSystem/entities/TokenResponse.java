@@ -0,0 +1,31 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.time.Instant;
+
+/**
+ * Access token issued by /auth/token in stateless authentication mode.
+ * Clients send it back as "Authorization: Bearer &lt;token&gt;".
+ */
+public class TokenResponse {
+
+    private final String token;
+    private final String tokenType = "Bearer";
+    private final Instant expiresAt;
+
+    public TokenResponse(String token, Instant expiresAt) {
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
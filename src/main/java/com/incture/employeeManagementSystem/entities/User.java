@@ -3,8 +3,11 @@ package com.incture.employeeManagementSystem.entities;
 import jakarta.persistence.*;
 import java.util.Set;
 
+import com.incture.employeeManagementSystem.service.AuthCacheEvictionListener;
+
 @Entity
 @Table(name = "users")
+@EntityListeners(AuthCacheEvictionListener.class)
 public class User {
     
     @Id
@@ -0,0 +1,31 @@
+package com.incture.employeeManagementSystem.entities;
+
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Immutable snapshot of a user and the name of their role, as needed for authentication.
+ * Safe to cache and share between threads, unlike the {@link User} entity.
+ */
+public record UserAccount(Long id, String username, String password, String role) {
+
+    /**
+     * Creates a snapshot of a user whose role has been loaded.
+     * @param user The user entity
+     * @return The snapshot
+     */
+    public static UserAccount of(User user) {
+        return new UserAccount(user.getId(), user.getUsername(), user.getPassword(), user.getRole().getName());
+    }
+
+    /**
+     * Builds the UserDetails for Spring Security. A new instance is returned on every call,
+     * because the authentication manager erases the password of the instance it is given.
+     * @return The user details granting the user's role
+     */
+    public UserDetails toUserDetails() {
+        return new org.springframework.security.core.userdetails.User(username, password, List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -4,6 +4,7 @@ package com.incture.employeeManagementSystem.exception;
  * Custom exception class to handle cases where an employee is not found.
  * This exception extends RuntimeException and is thrown when an employee
  * cannot be found in the system.
+ * It is an expected outcome mapped to a 404 response, so no stack trace is captured.
  */
 public class EmployeeNotFoundException extends RuntimeException {
 
@@ -13,6 +14,6 @@ public class EmployeeNotFoundException extends RuntimeException {
      * @param message The detail message that describes the exception.
      */
     public EmployeeNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,16 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when an employee was changed or deleted after the client read it.
+ */
+public class EmployeeVersionConflictException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of EmployeeVersionConflictException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public EmployeeVersionConflictException(String message) {
+        super(message);
+    }
+}
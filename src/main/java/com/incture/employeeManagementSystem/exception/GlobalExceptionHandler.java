@@ -1,9 +1,13 @@
 package com.incture.employeeManagementSystem.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.util.DisconnectedClientHelper;
 
 import com.incture.employeeManagementSystem.entities.ErrorResponse;
 
@@ -27,15 +31,154 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles invalid pagination parameters such as a malformed cursor or an unknown sort key.
+     * Responds with a 400 Bad Request status and the reason.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 400.
+     */
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(InvalidPageRequestException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_PAGE_REQUEST", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles a fields parameter naming an unknown attribute.
+     * Responds with a 400 Bad Request status and the reason.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 400.
+     */
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldSelectionException(InvalidFieldSelectionException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_FIELDS", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles invalid filter parameters such as an unknown match mode.
+     * Responds with a 400 Bad Request status and the reason.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 400.
+     */
+    @ExceptionHandler(InvalidFilterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFilterException(InvalidFilterException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_FILTER", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles an invalid partial update.
+     * Responds with a 400 Bad Request status and the reason.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 400.
+     */
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPatchException(InvalidPatchException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_PATCH", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles a write based on an outdated version of an employee, including concurrent updates detected by Hibernate.
+     * Responds with a 409 Conflict status; the client should read the employee again.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 409.
+     */
+    @ExceptionHandler({ EmployeeVersionConflictException.class, ObjectOptimisticLockingFailureException.class })
+    public ResponseEntity<ErrorResponse> handleVersionConflict(RuntimeException ex) {
+        String message = ex instanceof EmployeeVersionConflictException ? ex.getMessage()
+                : "Employee was changed by another request";
+        ErrorResponse errorResponse = new ErrorResponse("VERSION_CONFLICT", message);
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles a write rejected by a database constraint, such as a second employee with the same email.
+     * Responds with a 409 Conflict status.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 409.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("CONSTRAINT_VIOLATION",
+                "The change conflicts with existing data, e.g. the email is already in use");
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles an invalid bulk update request.
+     * Responds with a 400 Bad Request status and the reason.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 400.
+     */
+    @ExceptionHandler(InvalidBulkUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBulkUpdateException(InvalidBulkUpdateException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_BULK_UPDATE", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles the custom exception for report jobs of an unknown type.
+     * Responds with a 400 Bad Request status and a detailed error message.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 400.
+     */
+    @ExceptionHandler(InvalidReportRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidReportRequestException(InvalidReportRequestException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_REPORT", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles a delta export from a watermark that is too old.
+     * Responds with a 410 Gone status so the client falls back to a full export.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 410.
+     */
+    @ExceptionHandler(WatermarkExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleWatermarkExpiredException(WatermarkExpiredException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("WATERMARK_EXPIRED", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.GONE);
+    }
+
+    /**
+     * Handles work rejected because the server is at capacity.
+     * Responds with a 503 Service Unavailable status so the client retries later.
+     *
+     * @param ex The exception that was thrown.
+     * @return A ResponseEntity containing the error response with status 503.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("SERVICE_BUSY", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * Handles any general exception that occurs in the application.
-     * Responds with a 500 Internal Server Error status and a generic error message.
+     * Responds with a 500 Internal Server Error status and a generic error message, unless the
+     * client has gone away, as change feed subscribers do, and there is no one to respond to.
      *
      * @param ex The exception that was thrown.
-     * @return A ResponseEntity containing the error response with status 500.
+     * @return A ResponseEntity containing the error response with status 500, or null if the client disconnected.
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
+        if (DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            return null;
+        }
         ErrorResponse errorResponse = new ErrorResponse("INTERNAL_SERVER_ERROR", "An unexpected error occurred");
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -0,0 +1,16 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when a bulk update request names an unknown field or operation, or an invalid value.
+ */
+public class InvalidBulkUpdateException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of InvalidBulkUpdateException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public InvalidBulkUpdateException(String message) {
+        super(message);
+    }
+}
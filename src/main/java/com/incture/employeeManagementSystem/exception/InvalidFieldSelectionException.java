@@ -0,0 +1,16 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when the fields parameter names an unknown employee attribute.
+ */
+public class InvalidFieldSelectionException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of InvalidFieldSelectionException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when filter parameters, such as the match mode, are invalid.
+ */
+public class InvalidFilterException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of InvalidFilterException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
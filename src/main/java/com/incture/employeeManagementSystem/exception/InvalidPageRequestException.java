@@ -0,0 +1,16 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when a paginated request carries an invalid cursor, sort key or page size.
+ */
+public class InvalidPageRequestException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of InvalidPageRequestException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when a partial update names an unknown attribute or has an invalid value.
+ */
+public class InvalidPatchException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of InvalidPatchException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+}
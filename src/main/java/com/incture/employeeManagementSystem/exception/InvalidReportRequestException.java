@@ -0,0 +1,16 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when a report job is requested for an unknown report type.
+ */
+public class InvalidReportRequestException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of InvalidReportRequestException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public InvalidReportRequestException(String message) {
+        super(message);
+    }
+}
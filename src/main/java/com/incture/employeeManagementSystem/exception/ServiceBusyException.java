@@ -0,0 +1,17 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when work is rejected because a bounded queue is full.
+ * Clients are expected to retry later.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of ServiceBusyException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public ServiceBusyException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.incture.employeeManagementSystem.exception;
+
+/**
+ * Exception thrown when a delta export is requested from a watermark older than the tombstone retention,
+ * so deletions since then can no longer be reported. The client has to run a full export instead.
+ */
+public class WatermarkExpiredException extends RuntimeException {
+
+    /**
+     * Constructor to create an instance of WatermarkExpiredException with a custom message.
+     *
+     * @param message The detail message that describes the exception.
+     */
+    public WatermarkExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,86 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.InvalidPatchException;
+
+/**
+ * Validated attribute values of a partial update. The same values are written with one UPDATE
+ * statement and, for change events, applied to in-memory snapshots.
+ */
+public class AttributeChanges {
+
+    private final Map<String, Object> values;
+
+    private AttributeChanges(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Validates the changed attributes and their values.
+     *
+     * @param changes The new value of each changed attribute.
+     * @return The changes.
+     * @throws InvalidPatchException if an attribute is unknown or a value has the wrong type.
+     */
+    public static AttributeChanges of(Map<String, Object> changes) {
+        if (changes.isEmpty()) {
+            throw new InvalidPatchException("At least one attribute must be changed");
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            Object value = change.getValue();
+            switch (change.getKey()) {
+                case "salary":
+                    if (value != null && !(value instanceof Number number && Double.isFinite(number.doubleValue()))) {
+                        throw new InvalidPatchException("A numeric value is required for salary");
+                    }
+                    values.put("salary", value == null ? null : ((Number) value).doubleValue());
+                    break;
+                case "name":
+                case "email":
+                case "phoneNumber":
+                case "role":
+                case "department":
+                case "jobTitle":
+                    if (value != null && !(value instanceof String)) {
+                        throw new InvalidPatchException("A text value is required for " + change.getKey());
+                    }
+                    values.put(change.getKey(), value);
+                    break;
+                default:
+                    throw new InvalidPatchException("Unsupported field: " + change.getKey());
+            }
+        }
+        return new AttributeChanges(Collections.unmodifiableMap(values));
+    }
+
+    /**
+     * Applies the changes to an employee snapshot.
+     *
+     * @param employee The snapshot to modify.
+     */
+    public void applyTo(Employee employee) {
+        values.forEach((attribute, value) -> {
+            switch (attribute) {
+                case "name" -> employee.setName((String) value);
+                case "email" -> employee.setEmail((String) value);
+                case "phoneNumber" -> employee.setPhoneNumber((String) value);
+                case "salary" -> employee.setSalary((Double) value);
+                case "role" -> employee.setRole((String) value);
+                case "department" -> employee.setDepartment((String) value);
+                default -> employee.setJobTitle((String) value);
+            }
+        });
+    }
+
+    /**
+     * @return The new value of each changed attribute, with salaries as doubles.
+     */
+    public Map<String, Object> getValues() {
+        return values;
+    }
+}
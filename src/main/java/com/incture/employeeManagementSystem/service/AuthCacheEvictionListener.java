@@ -0,0 +1,58 @@
+package com.incture.employeeManagementSystem.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.incture.employeeManagementSystem.entities.Role;
+import com.incture.employeeManagementSystem.entities.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener keeping {@link UserAccountCache} and {@link RoleCatalog} in line with
+ * the users and roles tables, whichever code path changes them. Instantiated by Hibernate
+ * through Spring while the entity manager factory is built, so the caches, which depend on
+ * repositories, are looked up on first use.
+ * Entries are evicted when the change is flushed and again after commit, so a login that
+ * reads the old row between flush and commit cannot keep it cached.
+ */
+public class AuthCacheEvictionListener {
+
+    private final ObjectProvider<UserAccountCache> userAccountCache;
+    private final ObjectProvider<RoleCatalog> roleCatalog;
+
+    public AuthCacheEvictionListener(ObjectProvider<UserAccountCache> userAccountCache, ObjectProvider<RoleCatalog> roleCatalog) {
+        this.userAccountCache = userAccountCache;
+        this.roleCatalog = roleCatalog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Runnable eviction;
+        if (entity instanceof User user) {
+            String username = user.getUsername();
+            eviction = () -> userAccountCache.getObject().evict(username);
+        } else if (entity instanceof Role) {
+            eviction = () -> {
+                roleCatalog.getObject().invalidate();
+                userAccountCache.getObject().evictAll();
+            };
+        } else {
+            return;
+        }
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
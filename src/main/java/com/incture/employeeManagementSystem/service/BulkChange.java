@@ -0,0 +1,103 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.Locale;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.InvalidBulkUpdateException;
+
+/**
+ * A validated change expression for bulk updates. Salary supports "set", "add" and "multiply";
+ * the text attributes department, jobTitle and role support "set".
+ * The same change is applied in SQL and, for change events, to in-memory snapshots.
+ */
+public class BulkChange {
+
+    private final String attribute;
+    private final String operation;
+    private final Object value;
+
+    private BulkChange(String attribute, String operation, Object value) {
+        this.attribute = attribute;
+        this.operation = operation;
+        this.value = value;
+    }
+
+    /**
+     * Validates a field, operation and value.
+     *
+     * @param field The attribute to change.
+     * @param operation The operation to apply.
+     * @param value The operand.
+     * @return The change.
+     * @throws InvalidBulkUpdateException if the combination is not supported.
+     */
+    public static BulkChange of(String field, String operation, Object value) {
+        if (field == null || operation == null) {
+            throw new InvalidBulkUpdateException("Both field and operation are required");
+        }
+        String op = operation.toLowerCase(Locale.ROOT);
+        switch (field) {
+            case "salary":
+                if (!(op.equals("set") || op.equals("add") || op.equals("multiply"))) {
+                    throw new InvalidBulkUpdateException("Unsupported salary operation: " + operation);
+                }
+                if (!(value instanceof Number number) || !Double.isFinite(number.doubleValue())) {
+                    throw new InvalidBulkUpdateException("Salary operations need a numeric value");
+                }
+                return new BulkChange(field, op, number.doubleValue());
+            case "department":
+            case "jobTitle":
+            case "role":
+                if (!op.equals("set")) {
+                    throw new InvalidBulkUpdateException("Only 'set' is supported for " + field);
+                }
+                if (value != null && !(value instanceof String)) {
+                    throw new InvalidBulkUpdateException("A text value is required for " + field);
+                }
+                return new BulkChange(field, op, value);
+            default:
+                throw new InvalidBulkUpdateException("Unsupported field: " + field);
+        }
+    }
+
+    /**
+     * @return The JPQL expression computing the new value of the attribute.
+     */
+    public String expression() {
+        return switch (operation) {
+            case "add" -> "e." + attribute + " + :value";
+            case "multiply" -> "e." + attribute + " * :value";
+            default -> ":value";
+        };
+    }
+
+    /**
+     * Applies the change to an employee snapshot, mirroring {@link #expression()}.
+     *
+     * @param employee The snapshot to modify.
+     */
+    public void applyTo(Employee employee) {
+        switch (attribute) {
+            case "salary" -> {
+                double operand = (Double) value;
+                Double salary = employee.getSalary();
+                employee.setSalary(switch (operation) {
+                    case "add" -> salary == null ? null : salary + operand;
+                    case "multiply" -> salary == null ? null : salary * operand;
+                    default -> operand;
+                });
+            }
+            case "department" -> employee.setDepartment((String) value);
+            case "jobTitle" -> employee.setJobTitle((String) value);
+            default -> employee.setRole((String) value);
+        }
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+}
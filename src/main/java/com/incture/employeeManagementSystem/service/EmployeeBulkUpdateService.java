@@ -0,0 +1,159 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.BulkUpdateJob;
+import com.incture.employeeManagementSystem.entities.BulkUpdateRequest;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Applies one change to every employee matching the filter criteria, as a background job.
+ * The ID space is walked in fixed-size ranges; each range is handled in its own short transaction
+ * that locks the matching rows, updates them with a single set-based UPDATE and commits, so no
+ * lock is held for longer than one chunk. Progress can be polled while the job runs.
+ */
+@Service
+public class EmployeeBulkUpdateService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeBulkUpdateService.class);
+
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${employee.bulk-update.chunk-size:1000}")
+    private int chunkSize;
+
+    /** Jobs run one at a time so two bulk updates never contend for the same rows. */
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(16), runnable -> {
+                Thread thread = new Thread(runnable, "employee-bulk-update");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Map<String, BulkUpdateJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<String, BulkUpdateJob>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BulkUpdateJob> eldest) {
+                    return size() > MAX_RETAINED_JOBS;
+                }
+            });
+
+    /**
+     * Validates and queues a bulk update.
+     *
+     * @param request The criteria and change to apply.
+     * @return The queued job, whose progress can be polled with {@link #getJob(String)}.
+     * @throws com.incture.employeeManagementSystem.exception.InvalidBulkUpdateException if the change is invalid.
+     * @throws ServiceBusyException if too many bulk updates are already queued.
+     */
+    public BulkUpdateJob submit(BulkUpdateRequest request) {
+        BulkChange change = BulkChange.of(request.getField(), request.getOperation(), request.getValue());
+        BulkUpdateJob job = new BulkUpdateJob(UUID.randomUUID().toString(), request);
+        try {
+            executor.execute(() -> run(job, change));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many bulk updates queued, try again later");
+        }
+        jobs.put(job.getId(), job);
+        LOGGER.info("Queued bulk update {} of {} ({})", job.getId(), request.getField(), request.getOperation());
+        return job;
+    }
+
+    /**
+     * @param id The job ID.
+     * @return The job, or null if it is unknown or no longer retained.
+     */
+    public BulkUpdateJob getJob(String id) {
+        return jobs.get(id);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(BulkUpdateJob job, BulkChange change) {
+        BulkUpdateRequest request = job.getRequest();
+        try {
+            Long minId = employeeRepository.findMinId();
+            Long maxId = employeeRepository.findMaxId();
+            if (minId == null) {
+                job.start(0);
+                job.complete();
+                return;
+            }
+            job.start((maxId - minId) / chunkSize + 1);
+            for (long start = minId; start <= maxId; start += chunkSize) {
+                long fromId = start;
+                long toId = Math.min(maxId, start + chunkSize - 1);
+                Integer updated = transactionTemplate.execute(status -> updateChunk(request, change, fromId, toId));
+                job.chunkDone(updated);
+            }
+            job.complete();
+            LOGGER.info("Bulk update {} completed: {} employees updated", job.getId(), job.getUpdatedRows());
+        } catch (RuntimeException e) {
+            LOGGER.error("Bulk update {} failed after {} chunks", job.getId(), job.getProcessedChunks(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Locks the matching rows of one ID range, updates them with one statement and publishes the changes.
+     */
+    private int updateChunk(BulkUpdateRequest request, BulkChange change, long fromId, long toId) {
+        List<Employee> employees = employeeRepository.lockForUpdate(
+                request.getDepartment(), request.getJobTitle(), request.getSalary(), fromId, toId);
+        if (employees.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> ids = new ArrayList<>(employees.size());
+        List<EmployeeChange> changes = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            Employee before = new Employee(employee);
+            Employee after = new Employee(employee);
+            change.applyTo(after);
+            // As set by the UPDATE, so consumers of the change can write with it
+            after.setVersion(employee.getVersion() + 1);
+            after.setLastModified(now);
+            ids.add(employee.getId());
+            changes.add(EmployeeChange.updated(before, after));
+        }
+        int updated = employeeRepository.updateAttribute(ids, change.getAttribute(), change.expression(), change.getValue(), now);
+        // Listeners run after this chunk commits
+        eventPublisher.publishEvent(new EmployeeChangeEvent(changes));
+        return updated;
+    }
+}
@@ -0,0 +1,113 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.incture.employeeManagementSystem.entities.Employee;
+
+/**
+ * Bounded read-through cache of employees by ID.
+ * IDs that do not exist are cached as well (negative caching), with a shorter lifetime,
+ * so repeated lookups of missing employees do not reach the database either.
+ * Entries are invalidated when {@link EmployeeService} changes the employee.
+ * Cached employees are shared between callers and must not be modified.
+ */
+@Component
+public class EmployeeCache {
+
+    private final Cache<Long, Optional<Employee>> cache;
+
+    public EmployeeCache(
+            @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+            @Value("${employee.cache.expire-after-write:10m}") Duration expireAfterWrite,
+            @Value("${employee.cache.negative-expire-after-write:30s}") Duration negativeExpireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, Optional<Employee>>() {
+                    @Override
+                    public long expireAfterCreate(Long id, Optional<Employee> employee, long currentTime) {
+                        return (employee.isPresent() ? expireAfterWrite : negativeExpireAfterWrite).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long id, Optional<Employee> employee, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, employee, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, Optional<Employee> employee, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached lookup result for an ID, loading it with the given loader on a miss.
+     * Concurrent misses for the same ID share a single load.
+     *
+     * @param id The employee ID.
+     * @param loader Loads the employee from the database.
+     * @return The employee, or an empty Optional if it does not exist.
+     */
+    public Optional<Employee> get(Long id, Function<Long, Optional<Employee>> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Returns the cached employee for an ID without loading it.
+     *
+     * @param id The employee ID.
+     * @return The cached employee, or null if it is not cached or cached as missing.
+     */
+    public Employee getIfPresent(Long id) {
+        Optional<Employee> employee = cache.getIfPresent(id);
+        return employee == null ? null : employee.orElse(null);
+    }
+
+    /**
+     * Invalidates the entries of employees that were created, updated or deleted.
+     * Created IDs are invalidated too, in case they were cached as missing.
+     *
+     * @param event The changes made by {@link EmployeeService}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(EmployeeChangeEvent.DERIVED_STATE_ORDER)
+    public void onEmployeeChange(EmployeeChangeEvent event) {
+        for (EmployeeChange change : event.getChanges()) {
+            cache.invalidate(change.getId());
+        }
+    }
+
+    /**
+     * @return The hit, miss, load and eviction statistics of the cache.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return The approximate number of cached entries.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * @return The underlying Caffeine cache, for metrics binding.
+     */
+    public Cache<Long, Optional<Employee>> getNativeCache() {
+        return cache;
+    }
+}
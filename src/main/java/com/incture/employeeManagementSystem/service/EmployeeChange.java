@@ -0,0 +1,55 @@
+package com.incture.employeeManagementSystem.service;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+
+/**
+ * A single committed change to an employee row.
+ * The before and after states are detached snapshots; before is null for a creation
+ * and after is null for a deletion.
+ */
+public class EmployeeChange {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long id;
+    private final Employee before;
+    private final Employee after;
+
+    public EmployeeChange(Type type, Long id, Employee before, Employee after) {
+        this.type = type;
+        this.id = id;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static EmployeeChange created(Employee employee) {
+        return new EmployeeChange(Type.CREATED, employee.getId(), null, new Employee(employee));
+    }
+
+    public static EmployeeChange updated(Employee before, Employee after) {
+        return new EmployeeChange(Type.UPDATED, after.getId(), before, new Employee(after));
+    }
+
+    public static EmployeeChange deleted(Long id, Employee before) {
+        return new EmployeeChange(Type.DELETED, id, before, null);
+    }
+
+	public Type getType() {
+		return type;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Employee getBefore() {
+		return before;
+	}
+
+	public Employee getAfter() {
+		return after;
+	}
+}
@@ -0,0 +1,52 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Application event published by {@link EmployeeService} for every write.
+ * In-memory structures derived from the employee table listen for it to stay up to date.
+ * A single event may carry many changes when rows are written in bulk.
+ */
+public class EmployeeChangeEvent {
+
+    /**
+     * Listener order of the structures that serve responses tagged by {@link EmployeeDataVersion}.
+     * They apply a change before the version that tags it is counted, whose listener runs last.
+     */
+    public static final int DERIVED_STATE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final List<EmployeeChange> changes;
+    private final long sequence = SEQUENCE.incrementAndGet();
+
+    public EmployeeChangeEvent(List<EmployeeChange> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * @return The sequence of the last event created. Events are created before their transaction
+     * commits, so a later event's changes cannot be visible to a query that ran before this was read.
+     */
+    public static long lastSequence() {
+        return SEQUENCE.get();
+    }
+
+    public static EmployeeChangeEvent of(EmployeeChange change) {
+        return new EmployeeChangeEvent(List.of(change));
+    }
+
+	public List<EmployeeChange> getChanges() {
+		return changes;
+	}
+
+	/**
+	 * @return The order in which the event was created, unique within this run.
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+}
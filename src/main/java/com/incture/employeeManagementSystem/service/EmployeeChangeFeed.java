@@ -0,0 +1,498 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incture.employeeManagementSystem.dao.EmployeeChangeRecordRepository;
+import com.incture.employeeManagementSystem.dao.EmployeeChangeSequenceRepository;
+import com.incture.employeeManagementSystem.entities.ChangeFeedEvent;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.EmployeeChangeRecord;
+import com.incture.employeeManagementSystem.entities.EmployeeChangeSequence;
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Feed of committed employee changes with increasing sequence numbers, streamed to subscribers
+ * as server-sent events. The {@link EmployeeChangeEvent}s are queued in commit order for a single
+ * background thread, so the committing request neither waits for the insert into the
+ * employee_change table nor needs a second pooled connection for it. The writer reserves the
+ * sequence numbers from the employee_change_sequence counter in the transaction that inserts the
+ * changes, and only then adds them to a ring of the latest changes. A number is therefore never
+ * seen before its row has committed, is never handed out again after a restart, and is never
+ * taken by two instances sharing the database. Changes that could not be written leave a skipped
+ * number behind, which subscribers receive as a reset; changes still queued when the process dies
+ * are lost without one.
+ * <p>
+ * Every subscriber reads the feed at its own pace on its own virtual thread, so a slow client
+ * never holds up writers or other subscribers. A subscriber that falls out of the ring catches up
+ * from the table. Changes no longer retained there are reported as a reset, and the client should
+ * reload the employees.
+ */
+@Component
+public class EmployeeChangeFeed {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+
+    private static final String INSERT_SQL = "INSERT INTO employee_change (sequence, type, employee_id, payload, changed_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    /** Changes read and sent to a subscriber at a time. */
+    private static final int READ_BATCH_SIZE = 500;
+
+    /** Changes between two deletions of rows beyond the retention. */
+    private static final int PURGE_INTERVAL = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeChangeRecordRepository changeRecordRepository;
+
+    @Autowired
+    private EmployeeChangeSequenceRepository changeSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employee.change-feed.buffer-size:10000}")
+    private int bufferSize;
+
+    @Value("${employee.change-feed.retained-changes:1000000}")
+    private long retainedChanges;
+
+    @Value("${employee.change-feed.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${employee.change-feed.heartbeat:15s}")
+    private Duration heartbeat;
+
+    @Value("${employee.change-feed.timeout:30m}")
+    private Duration timeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("change-feed-", 1).factory());
+    /** Changes waiting to be numbered and written, at most as many as the ring holds. */
+    private BlockingQueue<PendingChange> unwritten;
+    /** Changes dropped or not written since the last write, which is then preceded by a skipped number. */
+    private final AtomicLong lostChanges = new AtomicLong();
+    private Thread writer;
+    private TransactionTemplate separateTransaction;
+    private ChangeFeedEvent[] ring;
+    /** The first sequence of the ring, from which on it holds every number up to the last sequence. */
+    private long ringStart;
+    private long lastSequence;
+    private long nextPurge;
+
+    /**
+     * Continues after the last sequence number handed out, creating the counter from the persisted
+     * feed the first time, and starts the writer.
+     */
+    @PostConstruct
+    public void init() {
+        separateTransaction = new TransactionTemplate(transactionManager);
+        separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        ring = new ChangeFeedEvent[bufferSize];
+        unwritten = new ArrayBlockingQueue<>(bufferSize);
+        lastSequence = changeSequenceRepository.findLastSequence().orElseGet(this::createSequence);
+        ringStart = lastSequence + 1;
+        nextPurge = lastSequence + PURGE_INTERVAL;
+        writer = Thread.ofPlatform().name("change-feed-writer").daemon().start(this::write);
+    }
+
+    /**
+     * Stops the subscribers, then lets the writer store the queued changes before it stops.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        senders.shutdownNow();
+        writer.interrupt();
+        writer.join(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Queues committed changes for the writer, which numbers them in the order they are queued.
+     * The changes of one event are queued under one lock, so they stay together in the feed. The
+     * change has already committed, so no failure here is passed on to the writer or keeps the
+     * listeners after this one from running.
+     *
+     * @param event The changes made by {@link EmployeeService} or the bulk services.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChange(EmployeeChangeEvent event) {
+        Instant changedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        lock.lock();
+        try {
+            int dropped = 0;
+            for (EmployeeChange change : event.getChanges()) {
+                if (!unwritten.offer(new PendingChange(change.getType().name(), change.getId(), change.getAfter(), changedAt))) {
+                    dropped++;
+                }
+            }
+            if (dropped > 0) {
+                lostChanges.addAndGet(dropped);
+                LOGGER.error("Change feed writer is behind, {} changes left out of the change feed", dropped);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not append {} changes to the change feed", event.getChanges().size(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The sequence of the latest change written by this instance, or the last sequence
+     *         handed out before it started.
+     */
+    public long getLastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the changes following a position of the feed, from the ring when it still holds them
+     * and from the table otherwise.
+     *
+     * @param after The last sequence already seen.
+     * @param max The maximum number of changes to read.
+     * @return The following changes in sequence order, skipping sequences that are no longer retained.
+     */
+    public List<ChangeFeedEvent> readAfter(long after, int max) {
+        lock.lock();
+        try {
+            if (after >= lastSequence) {
+                return List.of();
+            }
+            long ringOldest = Math.max(ringStart, lastSequence - ring.length + 1);
+            if (after + 1 >= ringOldest) {
+                return readRing(after + 1, Math.min(lastSequence, after + max));
+            }
+        } finally {
+            lock.unlock();
+        }
+        List<ChangeFeedEvent> events = changeRecordRepository
+                .findBySequenceGreaterThanOrderBySequence(after, Limit.of(max)).stream()
+                .map(this::toEvent)
+                .toList();
+        if (!events.isEmpty()) {
+            return events;
+        }
+        // Nothing retained after this position until the ring starts
+        lock.lock();
+        try {
+            long ringOldest = Math.max(ringStart, lastSequence - ring.length + 1);
+            return readRing(ringOldest, Math.min(lastSequence, ringOldest + max - 1));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Opens a server-sent event stream of the changes following a position of the feed. Each change
+     * is sent with its sequence as the event ID and its type as the event name; comments are sent
+     * as heartbeats while nothing changes.
+     *
+     * @param after The last sequence already seen, or null to receive only new changes.
+     * @return The emitter to return from the controller.
+     * @throws ServiceBusyException if the maximum number of subscribers is reached.
+     */
+    public SseEmitter subscribe(Long after) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new ServiceBusyException("Too many change feed subscribers, try again later");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(emitter, after == null ? getLastSequence() : after);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        try {
+            senders.execute(subscription);
+        } catch (RuntimeException e) {
+            subscribers.decrementAndGet();
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * @return The number of open subscriptions.
+     */
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+
+    /**
+     * Sends the feed to one client, reading the next changes only after the previous ones were
+     * written to the connection.
+     */
+    private final class Subscription implements Runnable {
+
+        private final SseEmitter emitter;
+        private volatile boolean closed;
+        private long position;
+
+        Subscription(SseEmitter emitter, long position) {
+            this.emitter = emitter;
+            this.position = position;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    List<ChangeFeedEvent> events = readAfter(position, READ_BATCH_SIZE);
+                    if (events.isEmpty()) {
+                        if (!awaitChange()) {
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                        }
+                        continue;
+                    }
+                    for (ChangeFeedEvent change : events) {
+                        if (change.getSequence() > position + 1) {
+                            emitter.send(SseEmitter.event().name("reset").data(
+                                    Map.of("from", position + 1, "to", change.getSequence() - 1), MediaType.APPLICATION_JSON));
+                        }
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(change.getSequence()))
+                                .name(change.getType().toLowerCase(Locale.ROOT))
+                                .data(change, MediaType.APPLICATION_JSON));
+                        position = change.getSequence();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client disconnected or the stream timed out
+                LOGGER.debug("Change feed subscriber stopped at sequence {}: {}", position, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } finally {
+                subscribers.decrementAndGet();
+            }
+        }
+
+        /**
+         * Waits up to the heartbeat interval for a change after the current position.
+         */
+        private boolean awaitChange() throws InterruptedException {
+            long nanos = heartbeat.toNanos();
+            lock.lock();
+            try {
+                while (lastSequence <= position && !closed && nanos > 0) {
+                    nanos = appended.awaitNanos(nanos);
+                }
+                return lastSequence > position;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            closed = true;
+            lock.lock();
+            try {
+                appended.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private List<ChangeFeedEvent> readRing(long from, long to) {
+        List<ChangeFeedEvent> events = new ArrayList<>((int) Math.max(0, to - from + 1));
+        for (long sequence = from; sequence <= to; sequence++) {
+            events.add(ring[(int) (sequence % ring.length)]);
+        }
+        return events;
+    }
+
+    /**
+     * Runs on the writer thread, writing the queued changes in batches in queue order until
+     * interrupted, then writing what is still queued.
+     */
+    private void write() {
+        List<PendingChange> batch = new ArrayList<>(READ_BATCH_SIZE);
+        try {
+            while (true) {
+                batch.add(unwritten.take());
+                unwritten.drainTo(batch, READ_BATCH_SIZE - 1);
+                persist(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            while (unwritten.drainTo(batch, READ_BATCH_SIZE) > 0) {
+                persist(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Numbers and writes the changes in a transaction of their own, as the ones that made them have
+     * already committed, then adds them to the ring. The numbers are reserved in the same
+     * transaction, so a failed write hands none of them out. If changes were lost since the last
+     * write, one more number is reserved and left unused, so subscribers see the gap and reset.
+     */
+    private void persist(List<PendingChange> changes) {
+        long lost = lostChanges.getAndSet(0);
+        List<ChangeFeedEvent> events;
+        try {
+            List<String> payloads = new ArrayList<>(changes.size());
+            for (PendingChange change : changes) {
+                payloads.add(change.employee == null ? null : objectMapper.writeValueAsString(change.employee));
+            }
+            events = separateTransaction.execute(status -> {
+                long first = changeSequenceRepository.reserve((lost > 0 ? 1 : 0) + changes.size()) - changes.size() + 1;
+                List<ChangeFeedEvent> numbered = new ArrayList<>(changes.size());
+                List<Object[]> rows = new ArrayList<>(changes.size());
+                for (int i = 0; i < changes.size(); i++) {
+                    PendingChange change = changes.get(i);
+                    numbered.add(new ChangeFeedEvent(first + i, change.type, change.employeeId, change.employee, change.changedAt));
+                    rows.add(new Object[] { first + i, change.type, change.employeeId, payloads.get(i),
+                            OffsetDateTime.ofInstant(change.changedAt, ZoneOffset.UTC) });
+                }
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                return numbered;
+            });
+        } catch (JsonProcessingException | RuntimeException e) {
+            lostChanges.addAndGet(lost + changes.size());
+            LOGGER.error("Could not persist {} change feed events, subscribers will be sent a reset", changes.size(), e);
+            return;
+        }
+        append(events);
+        long written = events.get(events.size() - 1).getSequence();
+        if (written >= nextPurge) {
+            purge(written);
+        }
+    }
+
+    /**
+     * Adds written changes to the ring and wakes up the subscribers.
+     */
+    private void append(List<ChangeFeedEvent> events) {
+        lock.lock();
+        try {
+            long first = events.get(0).getSequence();
+            if (first != lastSequence + 1) {
+                // The numbers in between were skipped or taken by another instance, so only the table can answer for them
+                ringStart = first;
+            }
+            for (ChangeFeedEvent change : events) {
+                ring[(int) (change.getSequence() % ring.length)] = change;
+            }
+            lastSequence = events.get(events.size() - 1).getSequence();
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates the counter, continuing after the persisted feed. If another instance created it
+     * first, its value is used instead.
+     */
+    private long createSequence() {
+        long last = changeRecordRepository.findLastSequence();
+        try {
+            separateTransaction.executeWithoutResult(status -> changeSequenceRepository.save(new EmployeeChangeSequence(last)));
+            return last;
+        } catch (DataIntegrityViolationException e) {
+            return changeSequenceRepository.findLastSequence().orElseThrow();
+        }
+    }
+
+    /**
+     * Deletes the rows beyond the retained number of changes.
+     */
+    private void purge(long written) {
+        nextPurge = written + PURGE_INTERVAL;
+        long upTo = written - retainedChanges;
+        if (upTo <= 0) {
+            return;
+        }
+        try {
+            Integer deleted = separateTransaction.execute(status -> changeRecordRepository.deleteUpTo(upTo));
+            LOGGER.debug("Purged {} change feed events up to sequence {}", deleted, upTo);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not purge change feed events up to sequence {}", upTo, e);
+        }
+    }
+
+    /**
+     * A committed change waiting for the writer to number and store it.
+     */
+    private static final class PendingChange {
+
+        private final String type;
+        private final Long employeeId;
+        private final Employee employee;
+        private final Instant changedAt;
+
+        PendingChange(String type, Long employeeId, Employee employee, Instant changedAt) {
+            this.type = type;
+            this.employeeId = employeeId;
+            this.employee = employee;
+            this.changedAt = changedAt;
+        }
+    }
+
+    private ChangeFeedEvent toEvent(EmployeeChangeRecord record) {
+        Employee employee = null;
+        if (record.getPayload() != null) {
+            try {
+                employee = objectMapper.readValue(record.getPayload(), Employee.class);
+            } catch (JsonProcessingException e) {
+                LOGGER.warn("Could not read change feed event {}", record.getSequence(), e);
+            }
+        }
+        return new ChangeFeedEvent(record.getSequence(), record.getType(), record.getEmployeeId(), employee,
+                record.getChangedAt());
+    }
+}
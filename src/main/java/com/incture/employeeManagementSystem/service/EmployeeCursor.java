@@ -0,0 +1,91 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incture.employeeManagementSystem.dao.EmployeeSort;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.InvalidPageRequestException;
+
+/**
+ * Opaque continuation token for keyset pagination. It records the sort keys and the
+ * key values of the last row returned, encoded as URL-safe Base64 JSON.
+ */
+public class EmployeeCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<EmployeeSort> sort;
+    private final Object[] after;
+
+    public EmployeeCursor(List<EmployeeSort> sort, Object[] after) {
+        this.sort = sort;
+        this.after = after;
+    }
+
+    /**
+     * Creates the cursor positioned after the given employee.
+     *
+     * @param sort The sort keys of the page.
+     * @param last The last employee on the page.
+     * @return The cursor for the following page.
+     */
+    public static EmployeeCursor after(List<EmployeeSort> sort, Employee last) {
+        Object[] values = new Object[sort.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = sort.get(i).valueOf(last);
+        }
+        return new EmployeeCursor(sort, values);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token The opaque token.
+     * @return The decoded cursor.
+     * @throws InvalidPageRequestException if the token is malformed.
+     */
+    public static EmployeeCursor decode(String token) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token);
+            Map<String, Object> fields = MAPPER.readValue(json, new TypeReference<Map<String, Object>>() { });
+            List<EmployeeSort> sort = EmployeeSort.parse((String) fields.get("sort"));
+            List<?> values = (List<?>) fields.get("after");
+            if (values == null || values.size() != sort.size()) {
+                throw new InvalidPageRequestException("Invalid cursor");
+            }
+            Object[] after = new Object[sort.size()];
+            for (int i = 0; i < after.length; i++) {
+                after[i] = sort.get(i).coerce(values.get(i));
+            }
+            return new EmployeeCursor(sort, after);
+        } catch (IOException | IllegalArgumentException | ClassCastException e) {
+            throw new InvalidPageRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * @return The URL-safe token representing this cursor.
+     */
+    public String encode() {
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(Map.of("sort", EmployeeSort.format(sort), "after", Arrays.asList(after)));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode cursor", e);
+        }
+    }
+
+    public List<EmployeeSort> getSort() {
+        return sort;
+    }
+
+    public Object[] getAfter() {
+        return after;
+    }
+}
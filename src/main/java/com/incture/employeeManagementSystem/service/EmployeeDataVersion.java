@@ -0,0 +1,50 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * A counter of committed changes to the employee table, incremented for every {@link EmployeeChangeEvent}.
+ * List and report responses depend on nothing else, so the counter identifies their content and is used as their ETag.
+ * The counter starts from zero on every start, so the ETag also carries the start time.
+ * It is incremented after the in-memory structures serving those responses have applied the change, see
+ * {@link EmployeeChangeEvent#DERIVED_STATE_ORDER}, so a response read before then carries the previous tag.
+ */
+@Component
+public class EmployeeDataVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * Counts a committed change.
+     *
+     * @param event The changes made by {@link EmployeeService} or the bulk services.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onEmployeeChange(EmployeeChangeEvent event) {
+        counter.incrementAndGet();
+    }
+
+    /**
+     * @return The number of changes committed since startup.
+     */
+    public long get() {
+        return counter.get();
+    }
+
+    /**
+     * Returns the quoted entity tag of the current table content.
+     * It must be read before the rows, so a change committed in between makes the ETag stale rather than the content.
+     *
+     * @return The quoted ETag.
+     */
+    public String etag() {
+        return "\"" + epoch + "-" + counter.get() + "\"";
+    }
+}
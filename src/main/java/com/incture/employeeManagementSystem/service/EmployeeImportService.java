@@ -0,0 +1,401 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.ImportReport;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bulk import of employees from CSV (the column layout of the employee report) or a JSON array.
+ * The input is read in chunks; each chunk is validated in parallel and written with a JDBC batch
+ * insert in its own transaction, while the next chunk is already being read and validated.
+ * Memory use is bounded by two chunks regardless of input size. Rows that fail validation or
+ * cannot be inserted are listed in the returned {@link ImportReport}; the other rows are kept.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO employee (name, email, phone_number, salary, role, department, job_title, last_modified, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    /** Column positions in the employee report layout. */
+    private static final int NAME = 1, EMAIL = 2, PHONE_NUMBER = 3, SALARY = 4, ROLE = 5, DEPARTMENT = 6, JOB_TITLE = 7;
+    private static final int COLUMN_COUNT = 8;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employee.import.batch-size:1000}")
+    private int batchSize;
+
+    private final ExecutorService writer = Executors.newCachedThreadPool(namedThreads("employee-import-"));
+
+    /**
+     * Imports employees from CSV in the employee report layout. A leading header row is skipped;
+     * the ID column is ignored and new IDs are assigned.
+     *
+     * @param input The CSV input.
+     * @return The import report.
+     * @throws IOException if the input cannot be read.
+     */
+    public ImportReport importCsv(InputStream input) throws IOException {
+        LOGGER.info("Importing employees from CSV");
+        ImportReport report = new ImportReport();
+        try (CSVReader reader = new CSVReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Pipeline pipeline = new Pipeline(report);
+            String[] columns;
+            long rowNumber = 0;
+            while ((columns = reader.readNext()) != null) {
+                rowNumber++;
+                if (rowNumber == 1 && columns.length > 0 && "ID".equalsIgnoreCase(columns[0].trim())) {
+                    continue;
+                }
+                pipeline.add(new RawRow(rowNumber, columns));
+            }
+            pipeline.finish();
+        } catch (CsvValidationException e) {
+            throw new IOException("Malformed CSV input", e);
+        }
+        LOGGER.info("CSV import finished: {} imported, {} failed", report.getImportedRows(), report.getFailedRows());
+        return report;
+    }
+
+    /**
+     * Imports employees from a JSON array of employee objects. Any id property is ignored, and
+     * elements that are not objects are reported as rejected rows.
+     *
+     * @param input The JSON input.
+     * @return The import report.
+     * @throws IOException if the input cannot be read or is not a JSON array.
+     */
+    public ImportReport importJson(InputStream input) throws IOException {
+        LOGGER.info("Importing employees from JSON");
+        ImportReport report = new ImportReport();
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of employees");
+            }
+            Pipeline pipeline = new Pipeline(report);
+            long rowNumber = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of the JSON array of employees");
+                }
+                rowNumber++;
+                if (token != JsonToken.START_OBJECT) {
+                    String found = parser.getText();
+                    // Also skips the elements of a nested array
+                    parser.skipChildren();
+                    pipeline.add(RawRow.invalid(rowNumber, "Expected an employee object but found " + found));
+                    continue;
+                }
+                Map<String, Object> fields = parser.readValueAs(new TypeReference<Map<String, Object>>() { });
+                pipeline.add(new RawRow(rowNumber, toColumns(fields)));
+            }
+            pipeline.finish();
+        }
+        LOGGER.info("JSON import finished: {} imported, {} failed", report.getImportedRows(), report.getFailedRows());
+        return report;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+    }
+
+    /**
+     * Validates a raw row and converts it to an employee.
+     *
+     * @param row The raw row.
+     * @return The validated row, holding either the employee or the error.
+     */
+    static ValidatedRow validate(RawRow row) {
+        if (row.error != null) {
+            return ValidatedRow.error(row.number, row.error);
+        }
+        String[] columns = row.columns;
+        if (columns.length < COLUMN_COUNT) {
+            return ValidatedRow.error(row.number, "Expected " + COLUMN_COUNT + " columns but found " + columns.length);
+        }
+        String name = value(columns[NAME]);
+        if (name == null) {
+            return ValidatedRow.error(row.number, "Name is required");
+        }
+        String email = value(columns[EMAIL]);
+        if (email != null && (email.indexOf('@') <= 0 || email.indexOf('@') == email.length() - 1)) {
+            return ValidatedRow.error(row.number, "Invalid email: " + email);
+        }
+        Double salary = null;
+        String salaryText = value(columns[SALARY]);
+        if (salaryText != null) {
+            try {
+                salary = Double.valueOf(salaryText);
+            } catch (NumberFormatException e) {
+                return ValidatedRow.error(row.number, "Invalid salary: " + salaryText);
+            }
+            if (salary.isNaN() || salary.isInfinite() || salary < 0) {
+                return ValidatedRow.error(row.number, "Invalid salary: " + salaryText);
+            }
+        }
+        Employee employee = new Employee(null, name, email, value(columns[PHONE_NUMBER]), salary,
+                value(columns[ROLE]), value(columns[DEPARTMENT]), value(columns[JOB_TITLE]));
+        return new ValidatedRow(row.number, employee, null);
+    }
+
+    /**
+     * Normalizes a raw column: blank values and the literal "null" written by the report for missing values become null.
+     */
+    private static String value(String column) {
+        if (column == null) {
+            return null;
+        }
+        String trimmed = column.trim();
+        return trimmed.isEmpty() || "null".equals(trimmed) ? null : trimmed;
+    }
+
+    private static String[] toColumns(Map<String, Object> fields) {
+        String[] columns = new String[COLUMN_COUNT];
+        columns[NAME] = text(fields.get("name"));
+        columns[EMAIL] = text(fields.get("email"));
+        columns[PHONE_NUMBER] = text(fields.get("phoneNumber"));
+        columns[SALARY] = text(fields.get("salary"));
+        columns[ROLE] = text(fields.get("role"));
+        columns[DEPARTMENT] = text(fields.get("department"));
+        columns[JOB_TITLE] = text(fields.get("jobTitle"));
+        return columns;
+    }
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Inserts a chunk of valid employees with one JDBC batch in its own transaction and publishes
+     * their creation. If the batch fails, the rows are retried one at a time so only the offending
+     * rows are rejected.
+     */
+    private void persist(List<ValidatedRow> rows, ImportReport report) {
+        try {
+            insert(rows);
+            report.addImported(rows.size());
+        } catch (DataAccessException e) {
+            LOGGER.warn("Batch insert of {} employees failed, retrying row by row", rows.size());
+            for (ValidatedRow row : rows) {
+                try {
+                    insert(List.of(row));
+                    report.addImported(1);
+                } catch (DataAccessException rowFailure) {
+                    report.addError(row.number, "Insert failed: " + rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<ValidatedRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // With its offset, so the driver stores the instant whatever the JVM time zone, like Hibernate does
+            OffsetDateTime now = OffsetDateTime.ofInstant(Instant.now().truncatedTo(ChronoUnit.MICROS), ZoneOffset.UTC);
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            Employee employee = rows.get(i).employee;
+                            statement.setString(1, employee.getName());
+                            statement.setString(2, employee.getEmail());
+                            statement.setString(3, employee.getPhoneNumber());
+                            if (employee.getSalary() == null) {
+                                statement.setNull(4, Types.DOUBLE);
+                            } else {
+                                statement.setDouble(4, employee.getSalary());
+                            }
+                            statement.setString(5, employee.getRole());
+                            statement.setString(6, employee.getDepartment());
+                            statement.setString(7, employee.getJobTitle());
+                            statement.setObject(8, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    },
+                    keys);
+
+            List<Map<String, Object>> generated = keys.getKeyList();
+            List<EmployeeChange> changes = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Employee employee = new Employee(rows.get(i).employee);
+                employee.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+                employee.setVersion(0L);
+                employee.setLastModified(now.toInstant());
+                changes.add(EmployeeChange.created(employee));
+            }
+            // Listeners run after this chunk commits
+            eventPublisher.publishEvent(new EmployeeChangeEvent(changes));
+        });
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Collects raw rows into chunks. Each full chunk is validated in parallel on the calling thread
+     * and handed to the writer thread, which inserts it while the caller reads the next chunk.
+     * At most one chunk is being written at any time.
+     */
+    private class Pipeline {
+
+        private final ImportReport report;
+        private List<RawRow> chunk = new ArrayList<>();
+        private CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+
+        private Pipeline(ImportReport report) {
+            this.report = report;
+        }
+
+        private void add(RawRow row) {
+            chunk.add(row);
+            if (chunk.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void finish() {
+            flush();
+            pendingWrite.join();
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            report.addTotal(chunk.size());
+            List<ValidatedRow> valid = new ArrayList<>(chunk.size());
+            for (ValidatedRow row : chunk.parallelStream().map(EmployeeImportService::validate).toList()) {
+                if (row.error != null) {
+                    report.addError(row.number, row.error);
+                } else {
+                    valid.add(row);
+                }
+            }
+            chunk = new ArrayList<>(batchSize);
+
+            // Wait for the previous chunk so only one chunk is in flight to the database
+            pendingWrite.join();
+            if (!valid.isEmpty()) {
+                pendingWrite = CompletableFuture.runAsync(() -> persist(valid, report), writer);
+            }
+        }
+    }
+
+    /**
+     * An input row before validation, with its 1-based position in the input.
+     * A row that could not be read into columns carries its error instead.
+     */
+    static class RawRow {
+        private final long number;
+        private final String[] columns;
+        private final String error;
+
+        RawRow(long number, String[] columns) {
+            this(number, columns, null);
+        }
+
+        private RawRow(long number, String[] columns, String error) {
+            this.number = number;
+            this.columns = columns;
+            this.error = error;
+        }
+
+        private static RawRow invalid(long number, String error) {
+            return new RawRow(number, null, error);
+        }
+    }
+
+    /**
+     * An input row after validation: either an employee or an error message.
+     */
+    static class ValidatedRow {
+        private final long number;
+        private final Employee employee;
+        private final String error;
+
+        private ValidatedRow(long number, Employee employee, String error) {
+            this.number = number;
+            this.employee = employee;
+            this.error = error;
+        }
+
+        private static ValidatedRow error(long number, String error) {
+            return new ValidatedRow(number, null, error);
+        }
+
+        Employee getEmployee() {
+            return employee;
+        }
+
+        String getError() {
+            return error;
+        }
+    }
+}
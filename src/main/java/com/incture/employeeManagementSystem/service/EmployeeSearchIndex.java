@@ -0,0 +1,313 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.Employee;
+
+/**
+ * In-process trigram inverted index over employee department and job title.
+ * Each trigram maps to a compressed bitmap of employee IDs, so a substring filter is answered by
+ * intersecting a few bitmaps instead of scanning the table with LIKE '%...%'.
+ * Matching is case-insensitive, like MySQL's default collation. The index is built once the
+ * application is ready and kept up to date from {@link EmployeeChangeEvent}s. A rebuild reads the
+ * table into new structures without holding the lock, so writers are not held up by the scan.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+    private static final int GRAM_LENGTH = 3;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${employee.search-index.enabled:true}")
+    private boolean enabled;
+
+    /** Guards the contents and the changes buffered during a rebuild. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Contents contents = new Contents();
+
+    /** Changes applied while a rebuild reads the table, to replay on its result; null when not rebuilding. */
+    private List<EmployeeChangeEvent> changesDuringRebuild;
+
+    private volatile boolean ready;
+
+    /**
+     * Loads the index from the database once the application has started.
+     * Until this completes, {@link #supports(String, String)} returns false and filters go to the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Contents rebuilt = new Contents();
+        boolean loaded = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = employeeRepository.streamSearchAttributes()) {
+                    rows.forEach(row -> rebuilt.put((Long) row[0], (String) row[1], (String) row[2], (Double) row[3]));
+                }
+            });
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    // The scan may or may not have seen these changes; applying them again in order is harmless
+                    changesDuringRebuild.forEach(rebuilt::apply);
+                    contents = rebuilt;
+                    ready = true;
+                }
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        LOGGER.info("Employee search index built with {} employees in {} ms", rebuilt.entries.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies committed employee changes to the index.
+     *
+     * @param event The changes made by {@link EmployeeService}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(EmployeeChangeEvent.DERIVED_STATE_ORDER)
+    public void onEmployeeChange(EmployeeChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            contents.apply(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a filter can be answered from the index. Filters without a text condition,
+     * or with LIKE wildcards in the search text, are left to the database.
+     *
+     * @param department The department substring (can be null).
+     * @param jobTitle The job title substring (can be null).
+     * @return Whether {@link #search(String, String, Double)} can answer the filter.
+     */
+    public boolean supports(String department, String jobTitle) {
+        return enabled && ready && (department != null || jobTitle != null)
+                && isLiteral(department) && isLiteral(jobTitle);
+    }
+
+    /**
+     * Finds the IDs of employees whose department and job title contain the given substrings
+     * and whose salary is at least the given minimum.
+     *
+     * @param department The department substring (can be null).
+     * @param jobTitle The job title substring (can be null).
+     * @param salary The minimum salary (can be null).
+     * @return The matching employee IDs in ascending order.
+     */
+    public long[] search(String department, String jobTitle, Double salary) {
+        lock.readLock().lock();
+        try {
+            Contents contents = this.contents;
+            Roaring64Bitmap candidates = null;
+            if (department != null) {
+                candidates = contents.departments.candidates(normalize(department));
+            }
+            if (jobTitle != null) {
+                Roaring64Bitmap jobTitleCandidates = contents.jobTitles.candidates(normalize(jobTitle));
+                if (candidates == null) {
+                    candidates = jobTitleCandidates;
+                } else {
+                    candidates.and(jobTitleCandidates);
+                }
+            }
+
+            // Trigram hits are only candidates; confirm the substring and salary on the stored values
+            String departmentKey = department == null ? null : normalize(department);
+            String jobTitleKey = jobTitle == null ? null : normalize(jobTitle);
+            long[] matches = new long[(int) candidates.getLongCardinality()];
+            int count = 0;
+            LongIterator ids = candidates.getLongIterator();
+            while (ids.hasNext()) {
+                long id = ids.next();
+                Entry entry = contents.entries.get(id);
+                if (entry != null && entry.matches(departmentKey, jobTitleKey, salary)) {
+                    matches[count++] = id;
+                }
+            }
+            return Arrays.copyOf(matches, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isLiteral(String value) {
+        return value == null || (value.indexOf('%') < 0 && value.indexOf('_') < 0);
+    }
+
+    /**
+     * The entries and postings of the index, replaced as a whole by a rebuild.
+     */
+    private static final class Contents {
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final TextIndex departments = new TextIndex();
+        private final TextIndex jobTitles = new TextIndex();
+
+        private void apply(EmployeeChangeEvent event) {
+            for (EmployeeChange change : event.getChanges()) {
+                Employee after = change.getAfter();
+                if (after == null) {
+                    remove(change.getId());
+                } else {
+                    put(after.getId(), after.getDepartment(), after.getJobTitle(), after.getSalary());
+                }
+            }
+        }
+
+        private void put(Long id, String department, String jobTitle, Double salary) {
+            remove(id);
+            Entry entry = new Entry(normalize(department), normalize(jobTitle), salary);
+            entries.put(id, entry);
+            departments.add(entry.department, id);
+            jobTitles.add(entry.jobTitle, id);
+        }
+
+        private void remove(Long id) {
+            Entry entry = entries.remove(id);
+            if (entry != null) {
+                departments.remove(entry.department, id);
+                jobTitles.remove(entry.jobTitle, id);
+            }
+        }
+    }
+
+    /**
+     * The indexed attributes of one employee, with text already lower-cased.
+     */
+    private static final class Entry {
+        private final String department;
+        private final String jobTitle;
+        private final Double salary;
+
+        private Entry(String department, String jobTitle, Double salary) {
+            this.department = department;
+            this.jobTitle = jobTitle;
+            this.salary = salary;
+        }
+
+        private boolean matches(String departmentKey, String jobTitleKey, Double minSalary) {
+            return (departmentKey == null || (department != null && department.contains(departmentKey)))
+                    && (jobTitleKey == null || (jobTitle != null && jobTitle.contains(jobTitleKey)))
+                    && (minSalary == null || (salary != null && salary >= minSalary));
+        }
+    }
+
+    /**
+     * Trigram postings for one text attribute, plus postings per distinct value for
+     * search strings too short to form a trigram.
+     */
+    private static final class TextIndex {
+        private final Map<String, Roaring64Bitmap> grams = new HashMap<>();
+        private final Map<String, Roaring64Bitmap> values = new HashMap<>();
+
+        private void add(String value, long id) {
+            if (value == null) {
+                return;
+            }
+            values.computeIfAbsent(value, key -> new Roaring64Bitmap()).addLong(id);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                grams.computeIfAbsent(value.substring(i, i + GRAM_LENGTH), key -> new Roaring64Bitmap()).addLong(id);
+            }
+        }
+
+        private void remove(String value, long id) {
+            if (value == null) {
+                return;
+            }
+            removeFrom(values, value, id);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                removeFrom(grams, value.substring(i, i + GRAM_LENGTH), id);
+            }
+        }
+
+        private static void removeFrom(Map<String, Roaring64Bitmap> postings, String key, long id) {
+            Roaring64Bitmap ids = postings.get(key);
+            if (ids != null) {
+                ids.removeLong(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+
+        /**
+         * Returns a new bitmap of IDs that may contain the search string.
+         */
+        private Roaring64Bitmap candidates(String search) {
+            Roaring64Bitmap result = new Roaring64Bitmap();
+            if (search.length() < GRAM_LENGTH) {
+                values.forEach((value, ids) -> {
+                    if (value.contains(search)) {
+                        result.or(ids);
+                    }
+                });
+                return result;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= search.length(); i++) {
+                Roaring64Bitmap ids = grams.get(search.substring(i, i + GRAM_LENGTH));
+                if (ids == null) {
+                    return new Roaring64Bitmap();
+                }
+                if (i == 0) {
+                    result.or(ids);
+                } else {
+                    result.and(ids);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -3,21 +3,56 @@ package com.incture.employeeManagementSystem.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.incture.employeeManagementSystem.dao.EmployeeFields;
 import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.dao.EmployeeSort;
+import com.incture.employeeManagementSystem.dao.EmployeeTombstoneRepository;
+import com.incture.employeeManagementSystem.dao.MatchMode;
 import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.EmployeePage;
+import com.incture.employeeManagementSystem.entities.EmployeePatch;
+import com.incture.employeeManagementSystem.entities.EmployeeTombstone;
+import com.incture.employeeManagementSystem.entities.SalaryDistribution;
+import com.incture.employeeManagementSystem.entities.SalaryStatistics;
 import com.incture.employeeManagementSystem.exception.EmployeeNotFoundException;
+import com.incture.employeeManagementSystem.exception.EmployeeVersionConflictException;
+import com.incture.employeeManagementSystem.exception.InvalidFieldSelectionException;
+import com.incture.employeeManagementSystem.exception.InvalidFilterException;
+import com.incture.employeeManagementSystem.exception.InvalidPageRequestException;
+import com.incture.employeeManagementSystem.exception.InvalidPatchException;
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+import com.incture.employeeManagementSystem.exception.WatermarkExpiredException;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
  * Service class that provides business logic for managing employee operations.
  * This class interacts with the EmployeeRepository to perform CRUD operations and other employee-related functionalities.
  */
 @Service
+@Timed(value = "service.method", percentiles = { 0.5, 0.95, 0.99 })
 public class EmployeeService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeService.class);
@@ -25,15 +60,61 @@ public class EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private HeadcountAggregates headcountAggregates;
+
+    @Autowired
+    private SalaryAnalytics salaryAnalytics;
+
+    @Autowired
+    private EmployeeChangeFeed employeeChangeFeed;
+
+    @Autowired
+    private EmployeeTombstoneRepository employeeTombstoneRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** Maximum number of IDs hydrated per IN query when answering a filter from the search index. */
+    private static final int HYDRATION_BATCH_SIZE = 1000;
+
+    @Value("${employee.page.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${employee.page.max-size:500}")
+    private int maxPageSize = 500;
+
+    /** Number of deletions between purges of expired tombstones. */
+    private static final int TOMBSTONE_PURGE_INTERVAL = 1000;
+
+    @Value("${employee.delta-export.settle-time:10s}")
+    private Duration exportSettleTime = Duration.ofSeconds(10);
+
+    @Value("${employee.delta-export.tombstone-retention:30d}")
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    private final AtomicLong deletions = new AtomicLong();
+
     /**
      * Creates a new employee and saves it to the database.
      *
      * @param employee The employee object to be created.
      * @return The created employee object with an assigned ID.
      */
+    @Transactional
     public Employee createEmployee(Employee employee) {
         LOGGER.info("Creating new employee: {}", employee.getName());
         Employee savedEmployee = employeeRepository.save(employee);
+        eventPublisher.publishEvent(EmployeeChangeEvent.of(EmployeeChange.created(savedEmployee)));
         LOGGER.info("Employee created successfully with ID: {}", savedEmployee.getId());
         return savedEmployee;
     }
@@ -49,19 +130,184 @@ public class EmployeeService {
     }
 
     /**
-     * Fetches an employee by its ID.
+     * Fetches only the given attributes of all employees, ordered by ID.
+     * Only the selected columns are queried and no entities are created.
+     *
+     * @param fields The attributes to return, e.g. "name,department" (the ID is always included).
+     * @return The selected attributes of every employee.
+     * @throws InvalidFieldSelectionException if an attribute is unknown.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getEmployeeFields(String fields) {
+        LOGGER.info("Fetching fields {} of all employees", fields);
+        return employeeRepository.findFields(EmployeeFields.parse(fields), null, null, null, MatchMode.CONTAINS);
+    }
+
+    /**
+     * Fetches one page of employees matching the filter using keyset pagination on the sort keys and ID.
+     * The cost of a page does not depend on how deep into the result it is.
+     *
+     * @param department The department to filter by (optional).
+     * @param jobTitle The job title to filter by (optional).
+     * @param salary The minimum salary to filter by (optional).
+     * @param match How department and job title are matched: exact, prefix or contains (optional, contains by default).
+     * @param sort The sort expression, e.g. "department,-salary" (optional, ignored when a cursor is given).
+     * @param cursor The continuation token from the previous page (optional).
+     * @param size The page size (optional, capped at the configured maximum).
+     * @return The page of employees and the cursor for the next page.
+     * @throws InvalidPageRequestException if the cursor, sort or size is invalid.
+     * @throws InvalidFilterException if the match mode is unknown.
+     */
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeePage(String department, String jobTitle, Double salary, String match,
+            String sort, String cursor, Integer size) {
+        LOGGER.info("Fetching employee page with department: {}, job title: {}, salary: {}", department, jobTitle, salary);
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1) {
+            throw new InvalidPageRequestException("Page size must be positive");
+        }
+        pageSize = Math.min(pageSize, maxPageSize);
+
+        EmployeeCursor position = cursor == null ? null : EmployeeCursor.decode(cursor);
+        List<EmployeeSort> sortKeys = position == null ? EmployeeSort.parse(sort) : position.getSort();
+        Object[] after = position == null ? null : position.getAfter();
+
+        List<Employee> rows = employeeRepository.findPageAfter(department, jobTitle, salary, MatchMode.of(match), sortKeys, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new EmployeePage(rows, null);
+        }
+        List<Employee> content = rows.subList(0, pageSize);
+        return new EmployeePage(content, EmployeeCursor.after(sortKeys, content.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Streams all employees to the given consumer without materializing the whole table.
+     * Each employee is detached once consumed so the persistence context does not grow with the table.
+     *
+     * @param consumer The callback invoked for every employee, in ID order.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<Employee> consumer) {
+        LOGGER.info("Streaming all employees");
+        try (Stream<Employee> employees = employeeRepository.streamAllEmployees()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    /**
+     * Parses the watermark a client got from its previous export.
+     *
+     * @param since An ISO-8601 instant, e.g. 2024-05-01T02:00:00Z.
+     * @return The watermark.
+     * @throws InvalidFilterException if it is not an ISO-8601 instant.
+     */
+    public Instant parseWatermark(String since) {
+        try {
+            return Instant.parse(since);
+        } catch (DateTimeParseException e) {
+            throw new InvalidFilterException("Invalid watermark: " + since + ", expected an ISO-8601 instant");
+        }
+    }
+
+    /**
+     * Chooses the watermark up to which a delta export reads. It lags the current time by the settle time,
+     * so a transaction that stamped its rows earlier but commits later is still picked up by the next export.
+     *
+     * @param since The watermark of the previous export, or null for a full export.
+     * @return The watermark to return to the client, never before {@code since}.
+     * @throws WatermarkExpiredException if tombstones since that watermark may already have been purged.
+     */
+    public Instant getExportWatermark(Instant since) {
+        // At the microsecond precision of last_modified, which would otherwise round stamps to either side of it
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        if (since != null && since.isBefore(now.minus(tombstoneRetention))) {
+            throw new WatermarkExpiredException("Deletions before " + now.minus(tombstoneRetention)
+                    + " are no longer tracked; run a full export");
+        }
+        Instant watermark = now.minus(exportSettleTime);
+        return since != null && since.isAfter(watermark) ? since : watermark;
+    }
+
+    /**
+     * Streams the employees inserted or updated, then the employees deleted, after one watermark and up to another.
+     * Both reads seek an index on the modification time, so the cost follows the number of changes, not the headcount.
+     *
+     * @param since The exclusive start, the watermark of the previous export.
+     * @param until The inclusive end, from {@link #getExportWatermark(Instant)}.
+     * @param changed The callback invoked for every changed employee, in modification order.
+     * @param deleted The callback invoked for every tombstone, in deletion order.
+     */
+    @Transactional(readOnly = true)
+    public void streamEmployeeChanges(Instant since, Instant until, Consumer<Employee> changed,
+            Consumer<EmployeeTombstone> deleted) {
+        LOGGER.info("Streaming employee changes after {} up to {}", since, until);
+        try (Stream<Employee> employees = employeeRepository.streamModifiedBetween(since, until)) {
+            employees.forEach(employee -> {
+                changed.accept(employee);
+                entityManager.detach(employee);
+            });
+        }
+        try (Stream<EmployeeTombstone> tombstones = employeeTombstoneRepository.streamDeletedBetween(since, until)) {
+            tombstones.forEach(tombstone -> {
+                deleted.accept(tombstone);
+                entityManager.detach(tombstone);
+            });
+        }
+    }
+
+    /**
+     * Fetches an employee by its ID through the employee cache.
+     * A cache miss costs a single query, and IDs known to be missing are answered from the cache too.
      *
      * @param id The ID of the employee to be fetched.
-     * @return The employee object if found, or null if not found.
-     * @throws NoSuchElementException if no employee is found with the given ID.
+     * @return The employee object.
+     * @throws EmployeeNotFoundException if no employee is found with the given ID.
      */
     public Employee getEmployeeById(Long id) {
-        if (!this.employeeRepository.existsById(id)) {
+        LOGGER.info("Fetching employee with ID: {}", id);
+        return employeeCache.get(id, employeeRepository::findById).orElseThrow(() -> {
             LOGGER.error("Employee not found with id: {}", id);
-            throw new NoSuchElementException("Employee not found with id: " + id);
+            return new EmployeeNotFoundException("Employee not found with id: " + id);
+        });
+    }
+
+    /**
+     * Returns the version of an employee through the employee cache.
+     *
+     * @param id The ID of the employee.
+     * @return The version, or an empty Optional if the employee does not exist.
+     */
+    public Optional<Long> getEmployeeVersion(Long id) {
+        return employeeCache.get(id, employeeRepository::findById).map(Employee::getVersion);
+    }
+
+    /**
+     * Fetches only the given attributes of an employee.
+     * A cached employee is answered from the cache, otherwise only the selected columns are queried.
+     *
+     * @param id The ID of the employee to be fetched.
+     * @param fields The attributes to return (the ID is always included).
+     * @return The selected attributes of the employee.
+     * @throws EmployeeNotFoundException if no employee is found with the given ID.
+     * @throws InvalidFieldSelectionException if an attribute is unknown.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getEmployeeFieldsById(Long id, String fields) {
+        LOGGER.info("Fetching fields {} of employee with ID: {}", fields, id);
+        EmployeeFields selection = EmployeeFields.parse(fields);
+        Employee cached = employeeCache.getIfPresent(id);
+        if (cached != null) {
+            return selection.project(cached);
         }
-        LOGGER.info("Fetching employee with ID: {}", id);
-        return employeeRepository.findById(id).orElse(null);
+        List<Map<String, Object>> rows = employeeRepository.findFieldsByIds(selection, List.of(id));
+        if (rows.isEmpty()) {
+            LOGGER.error("Employee not found with id: {}", id);
+            throw new EmployeeNotFoundException("Employee not found with id: " + id);
+        }
+        return rows.get(0);
     }
 
     /**
@@ -71,12 +317,19 @@ public class EmployeeService {
      * @param updatedEmployee The employee object containing the updated details.
      * @return The updated employee object if the update is successful, or null if not found.
      * @throws EmployeeNotFoundException if the employee with the given ID is not found.
+     * @throws EmployeeVersionConflictException if a version is given and the employee has another one.
      */
+    @Transactional
     public Employee updateEmployee(Long id, Employee updatedEmployee) {
         LOGGER.info("Updating employee with ID: {}", id);
         Optional<Employee> employeeOpt = employeeRepository.findById(id);
         if (employeeOpt.isPresent()) {
             Employee employee = employeeOpt.get();
+            if (updatedEmployee.getVersion() != null && !updatedEmployee.getVersion().equals(employee.getVersion())) {
+                throw new EmployeeVersionConflictException("Employee " + id + " has version " + employee.getVersion()
+                        + ", not " + updatedEmployee.getVersion());
+            }
+            Employee before = new Employee(employee);
             employee.setName(updatedEmployee.getName());
             employee.setEmail(updatedEmployee.getEmail());
             employee.setPhoneNumber(updatedEmployee.getPhoneNumber());
@@ -84,8 +337,12 @@ public class EmployeeService {
             employee.setRole(updatedEmployee.getRole());
             employee.setDepartment(updatedEmployee.getDepartment());
             employee.setJobTitle(updatedEmployee.getJobTitle());
+            Employee savedEmployee = employeeRepository.save(employee);
+            // Flushed so the version is incremented before the change event takes its snapshot
+            employeeRepository.flush();
+            eventPublisher.publishEvent(EmployeeChangeEvent.of(EmployeeChange.updated(before, savedEmployee)));
             LOGGER.info("Employee updated successfully with ID: {}", id);
-            return employeeRepository.save(employee);
+            return savedEmployee;
         } else {
             LOGGER.warn("Employee not found with ID: {}", id);
             throw new EmployeeNotFoundException("Employee not found with ID: " + id);
@@ -93,51 +350,216 @@ public class EmployeeService {
     }
 
     /**
-     * Deletes an employee by its ID.
+     * Changes some attributes of an employee with a single UPDATE statement, provided the employee still has
+     * the version the client read. The previous state for the change event is taken from the employee cache
+     * when it holds that version, so the common case costs one round trip; otherwise the row is read first.
+     *
+     * @param id The ID of the employee to be changed.
+     * @param patch The expected version and the changed attributes.
+     * @return The employee after the change, with its new version.
+     * @throws EmployeeNotFoundException if no employee is found with the given ID.
+     * @throws EmployeeVersionConflictException if the employee was changed or deleted since the client read it.
+     * @throws InvalidPatchException if the version is missing or an attribute is invalid.
+     */
+    @Transactional
+    public Employee patchEmployee(Long id, EmployeePatch patch) {
+        LOGGER.info("Patching employee with ID: {}", id);
+        if (patch.getVersion() == null) {
+            throw new InvalidPatchException("The version of the employee is required");
+        }
+        AttributeChanges changes = AttributeChanges.of(patch.getChanges());
+        long version = patch.getVersion();
+
+        Employee before = employeeCache.getIfPresent(id);
+        if (before == null || before.getVersion() != version) {
+            before = findSnapshot(id).orElseThrow(() -> {
+                LOGGER.warn("Employee not found with ID: {}", id);
+                return new EmployeeNotFoundException("Employee not found with ID: " + id);
+            });
+            if (before.getVersion() != version) {
+                throw new EmployeeVersionConflictException("Employee " + id + " has version " + before.getVersion() + ", not " + version);
+            }
+        }
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        if (employeeRepository.updateAttributes(id, version, changes.getValues(), now) == 0) {
+            throw new EmployeeVersionConflictException("Employee " + id + " was changed or deleted by another request");
+        }
+        Employee after = new Employee(before);
+        changes.applyTo(after);
+        after.setVersion(version + 1);
+        after.setLastModified(now);
+        eventPublisher.publishEvent(EmployeeChangeEvent.of(EmployeeChange.updated(new Employee(before), after)));
+        LOGGER.info("Employee patched successfully with ID: {}", id);
+        return after;
+    }
+
+    /**
+     * Deletes an employee by its ID with a single DELETE statement and leaves a tombstone for delta exports.
+     * The previous state for the change event is taken from the employee cache, so the common case costs
+     * one round trip. If the employee is not cached, or changed since it was cached, the row is read first.
      *
      * @param id The ID of the employee to be deleted.
      * @throws NoSuchElementException if no employee is found with the given ID.
+     * @throws EmployeeVersionConflictException if the employee was changed by another request while being deleted.
      */
+    @Transactional
     public void deleteEmployee(Long id) {
-        if (!this.employeeRepository.existsById(id)) {
-            LOGGER.error("Employee not found with id: {}", id);
-            throw new NoSuchElementException("Employee not found with id: " + id);
-        }
         LOGGER.info("Deleting employee with ID: {}", id);
-        employeeRepository.deleteById(id);
+        Employee before = employeeCache.getIfPresent(id);
+        if (before == null || employeeRepository.deleteByIdAndVersion(id, before.getVersion()) == 0) {
+            before = findSnapshot(id).orElseThrow(() -> {
+                LOGGER.error("Employee not found with id: {}", id);
+                return new NoSuchElementException("Employee not found with id: " + id);
+            });
+            if (employeeRepository.deleteByIdAndVersion(id, before.getVersion()) == 0) {
+                throw new EmployeeVersionConflictException("Employee " + id + " was changed by another request");
+            }
+        }
+        entityManager.persist(new EmployeeTombstone(id, Instant.now().truncatedTo(ChronoUnit.MICROS)));
+        if (deletions.incrementAndGet() % TOMBSTONE_PURGE_INTERVAL == 0) {
+            int purged = employeeTombstoneRepository.deleteDeletedBefore(Instant.now().minus(tombstoneRetention));
+            LOGGER.debug("Purged {} employee tombstones", purged);
+        }
+        eventPublisher.publishEvent(EmployeeChangeEvent.of(EmployeeChange.deleted(id, new Employee(before))));
         LOGGER.info("Employee deleted with ID: {}", id);
     }
 
+    /**
+     * Reads a detached copy of an employee, so later bulk statements do not leave a stale managed instance behind.
+     */
+    private Optional<Employee> findSnapshot(Long id) {
+        return employeeRepository.findById(id).map(employee -> {
+            Employee snapshot = new Employee(employee);
+            entityManager.detach(employee);
+            return snapshot;
+        });
+    }
+
     /**
      * Filters employees based on provided department, job title, and salary.
+     * Exact and prefix filters are answered by the database through the department index.
+     * Substring filters are answered from the in-memory search index when it is ready,
+     * and only the matching rows are loaded from the database.
      *
      * @param department The department to filter by (optional).
      * @param jobTitle The job title to filter by (optional).
      * @param salary The minimum salary to filter by (optional).
+     * @param match How department and job title are matched: exact, prefix or contains (optional, contains by default).
      * @return A list of employees that match the filter criteria.
+     * @throws InvalidFilterException if the match mode is unknown.
+     */
+    @Transactional(readOnly = true)
+    public List<Employee> filterEmployees(String department, String jobTitle, Double salary, String match) {
+        LOGGER.info("Filtering employees with department: {}, job title: {}, salary: {}, match: {}", department, jobTitle, salary, match);
+        MatchMode mode = MatchMode.of(match);
+        if (mode != MatchMode.CONTAINS) {
+            return employeeRepository.findMatching(department, jobTitle, salary, mode);
+        }
+        if (!employeeSearchIndex.supports(department, jobTitle)) {
+            return employeeRepository.filterEmployees(department, jobTitle, salary);
+        }
+        long[] ids = employeeSearchIndex.search(department, jobTitle, salary);
+        List<Employee> employees = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += HYDRATION_BATCH_SIZE) {
+            List<Long> batch = new ArrayList<>(HYDRATION_BATCH_SIZE);
+            for (int i = from; i < Math.min(ids.length, from + HYDRATION_BATCH_SIZE); i++) {
+                batch.add(ids[i]);
+            }
+            employees.addAll(employeeRepository.findAllById(batch));
+        }
+        employees.sort(Comparator.comparing(Employee::getId));
+        return employees;
+    }
+
+    /**
+     * Filters employees like {@link #filterEmployees(String, String, Double, String)} but returns only the given attributes.
+     * Only the selected columns are queried and no entities are created.
+     *
+     * @param fields The attributes to return (the ID is always included).
+     * @param department The department to filter by (optional).
+     * @param jobTitle The job title to filter by (optional).
+     * @param salary The minimum salary to filter by (optional).
+     * @param match How department and job title are matched: exact, prefix or contains (optional, contains by default).
+     * @return The selected attributes of each matching employee, ordered by ID.
+     * @throws InvalidFieldSelectionException if an attribute is unknown.
+     * @throws InvalidFilterException if the match mode is unknown.
      */
-    public List<Employee> filterEmployees(String department, String jobTitle, Double salary) {
-        LOGGER.info("Filtering employees with department: {}, job title: {}, salary: {}", department, jobTitle, salary);
-        return employeeRepository.filterEmployees(department, jobTitle, salary);
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> filterEmployeeFields(String fields, String department, String jobTitle, Double salary,
+            String match) {
+        LOGGER.info("Filtering fields {} of employees with department: {}, job title: {}, salary: {}, match: {}", fields, department, jobTitle, salary, match);
+        EmployeeFields selection = EmployeeFields.parse(fields);
+        MatchMode mode = MatchMode.of(match);
+        if (mode != MatchMode.CONTAINS || !employeeSearchIndex.supports(department, jobTitle)) {
+            return employeeRepository.findFields(selection, department, jobTitle, salary, mode);
+        }
+        long[] ids = employeeSearchIndex.search(department, jobTitle, salary);
+        List<Map<String, Object>> employees = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += HYDRATION_BATCH_SIZE) {
+            List<Long> batch = new ArrayList<>(HYDRATION_BATCH_SIZE);
+            for (int i = from; i < Math.min(ids.length, from + HYDRATION_BATCH_SIZE); i++) {
+                batch.add(ids[i]);
+            }
+            employees.addAll(employeeRepository.findFieldsByIds(selection, batch));
+        }
+        employees.sort(Comparator.comparing(employee -> (Long) employee.get("id")));
+        return employees;
     }
 
     /**
-     * Retrieves employee count grouped by department.
+     * Retrieves employee count grouped by department from the incrementally maintained aggregates.
      *
      * @return A list of object arrays containing department name and the corresponding employee count.
      */
     public List<Object[]> getEmployeeCountByDepartment() {
         LOGGER.info("Getting employees count by grouping department");
-        return employeeRepository.countEmployeesByDepartment();
+        return headcountAggregates.countByDepartment();
     }
 
     /**
-     * Retrieves employee count grouped by job title.
+     * Retrieves employee count grouped by job title from the incrementally maintained aggregates.
      *
      * @return A list of object arrays containing job title and the corresponding employee count.
      */
     public List<Object[]> getEmployeeCountByJobTitle() {
         LOGGER.info("Getting employees count by grouping job title");
-        return employeeRepository.countEmployeesByJobTitle();
+        return headcountAggregates.countByJobTitle();
+    }
+
+    /**
+     * Computes salary statistics per group from the in-memory analytics columns, without querying the database.
+     *
+     * @param groupBy The attribute to group by: department, jobTitle or role.
+     * @return Count, min, max, sum, mean and standard deviation of salaries for each group.
+     * @throws InvalidFieldSelectionException if the attribute cannot be grouped by.
+     */
+    public List<SalaryStatistics> getSalaryStatistics(String groupBy) {
+        LOGGER.info("Getting salary statistics grouped by {}", groupBy);
+        return salaryAnalytics.statistics(groupBy);
+    }
+
+    /**
+     * Estimates salary percentiles and a histogram per group from in-memory quantile sketches, without querying the database.
+     *
+     * @param groupBy The attribute to group by: department, jobTitle or role.
+     * @param buckets The number of histogram buckets.
+     * @return The percentiles p10 to p99 and the histogram of salaries for each group.
+     * @throws InvalidFieldSelectionException if the attribute cannot be grouped by or the bucket count is out of range.
+     */
+    public List<SalaryDistribution> getSalaryDistribution(String groupBy, int buckets) {
+        LOGGER.info("Getting salary distribution grouped by {}", groupBy);
+        return salaryAnalytics.distribution(groupBy, buckets);
+    }
+
+    /**
+     * Opens a stream of committed employee creations, updates and deletions.
+     *
+     * @param after The last sequence the client has seen, or null to receive only new changes.
+     * @return The server-sent event emitter.
+     * @throws ServiceBusyException if too many clients are subscribed.
+     */
+    public SseEmitter subscribeToChanges(Long after) {
+        LOGGER.info("Subscribing to employee changes after sequence {}", after);
+        return employeeChangeFeed.subscribe(after);
     }
 }
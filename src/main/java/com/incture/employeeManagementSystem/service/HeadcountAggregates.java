@@ -0,0 +1,168 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.Employee;
+
+/**
+ * Incrementally maintained employee counts by department and by job title.
+ * The counts are loaded with one GROUP BY per dimension before the application starts serving
+ * requests, then adjusted from committed {@link EmployeeChangeEvent}s, so the report endpoints
+ * answer in O(number of groups) without scanning the employee table.
+ * Groups are matched case-insensitively, like the GROUP BY under MySQL's default collation, and
+ * reported with the spelling first seen.
+ */
+@Component
+public class HeadcountAggregates implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadcountAggregates.class);
+
+    /** Stand-in for a null group, since concurrent maps cannot hold null keys. */
+    private static final String NULL_GROUP = "\u0000";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Group> departments = new ConcurrentHashMap<>();
+    private final Map<String, Group> jobTitles = new ConcurrentHashMap<>();
+    private volatile boolean stale = true;
+
+    /** Sequence of the last change event created before the counts were last loaded. */
+    private volatile long loadedSequence;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Reloads all counts from the database.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            load(departments, employeeRepository.countEmployeesByDepartment());
+            load(jobTitles, employeeRepository.countEmployeesByJobTitle());
+            loadedSequence = EmployeeChangeEvent.lastSequence();
+            stale = false;
+            LOGGER.info("Headcount aggregates loaded: {} departments, {} job titles", departments.size(), jobTitles.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies committed employee changes to the counts. Counters are striped, so concurrent
+     * writers to the same group do not contend.
+     *
+     * @param event The changes made by {@link EmployeeService}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(EmployeeChangeEvent.DERIVED_STATE_ORDER)
+    public void onEmployeeChange(EmployeeChangeEvent event) {
+        lock.readLock().lock();
+        try {
+            if (event.getSequence() <= loadedSequence) {
+                // Created before a reload finished, so the reload may already have counted it
+                LOGGER.debug("Change event {} overlapped a reload, headcount aggregates will be reloaded", event.getSequence());
+                stale = true;
+                return;
+            }
+            for (EmployeeChange change : event.getChanges()) {
+                if (change.getType() != EmployeeChange.Type.CREATED && change.getBefore() == null) {
+                    // The previous groups are unknown, so recount on the next read
+                    LOGGER.warn("Previous state of employee {} unknown, headcount aggregates will be reloaded", change.getId());
+                    stale = true;
+                    continue;
+                }
+                adjust(change.getBefore(), -1);
+                adjust(change.getAfter(), 1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Object arrays holding each department and its employee count, ordered by department.
+     */
+    public List<Object[]> countByDepartment() {
+        return snapshot(departments);
+    }
+
+    /**
+     * @return Object arrays holding each job title and its employee count, ordered by job title.
+     */
+    public List<Object[]> countByJobTitle() {
+        return snapshot(jobTitles);
+    }
+
+    private void adjust(Employee employee, long delta) {
+        if (employee == null) {
+            return;
+        }
+        counter(departments, employee.getDepartment()).add(delta);
+        counter(jobTitles, employee.getJobTitle()).add(delta);
+    }
+
+    private List<Object[]> snapshot(Map<String, Group> counts) {
+        if (stale) {
+            rebuild();
+        }
+        List<Object[]> result = new ArrayList<>();
+        // A reload clears and refills the maps under the write lock, so never read them halfway through one
+        lock.readLock().lock();
+        try {
+            List<Map.Entry<String, Group>> groups = new ArrayList<>(counts.entrySet());
+            groups.sort(Map.Entry.comparingByKey());
+            for (Map.Entry<String, Group> group : groups) {
+                long value = group.getValue().count.sum();
+                if (value > 0) {
+                    result.add(new Object[] { group.getValue().name, value });
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private static void load(Map<String, Group> counts, List<Object[]> rows) {
+        counts.clear();
+        for (Object[] row : rows) {
+            counter(counts, (String) row[0]).add(((Number) row[1]).longValue());
+        }
+    }
+
+    private static LongAdder counter(Map<String, Group> counts, String group) {
+        // NULL_GROUP sorts before any name
+        String key = group == null ? NULL_GROUP : group.toLowerCase(Locale.ROOT);
+        return counts.computeIfAbsent(key, ignored -> new Group(group)).count;
+    }
+
+    private static final class Group {
+
+        private final String name;
+        private final LongAdder count = new LongAdder();
+
+        Group(String name) {
+            this.name = name;
+        }
+    }
+}
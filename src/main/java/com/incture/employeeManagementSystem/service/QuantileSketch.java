@@ -0,0 +1,252 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL quantile sketch of a stream of doubles. Values are kept in levels of compactors: an item at
+ * level h stands for 2^h values of the stream. When the sketch is full, the lowest full level is
+ * sorted and every other item, starting at a random offset, is promoted to the next level. Level
+ * capacities shrink by a factor of 2/3 towards the bottom, so the sketch retains about 3k values
+ * whatever the length of the stream, and ranks are estimated within about 1.3% of the stream
+ * length for the default k.
+ * <p>
+ * Sketches are not thread safe.
+ */
+public class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    /** Smallest capacity of a level, however far below the top it is. */
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int levelCount = 1;
+    private long n;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_CAPACITY);
+        }
+        this.k = k;
+        levels[0] = new double[k];
+    }
+
+    /**
+     * Adds a value to the stream.
+     *
+     * @param value The value, not NaN.
+     */
+    public void update(double value) {
+        if (retained() >= capacity()) {
+            compress();
+        }
+        append(0, value);
+        n++;
+    }
+
+    /**
+     * @return The number of values added.
+     */
+    public long getN() {
+        return n;
+    }
+
+    /**
+     * @return The number of values held, which stays in O(k) for any stream length.
+     */
+    public int getRetained() {
+        return retained();
+    }
+
+    /**
+     * @return Whether every value added is still held, in which case ranks are exact.
+     */
+    public boolean isExact() {
+        return levelCount == 1;
+    }
+
+    /**
+     * @return The bound on the rank error as a fraction of {@link #getN()}, which holds with 99%
+     *         confidence; zero while the sketch is exact.
+     */
+    public double getNormalizedRankError() {
+        return isExact() ? 0 : 2.296 / Math.pow(k, 0.9723);
+    }
+
+    private int retained() {
+        int retained = 0;
+        for (int level = 0; level < levelCount; level++) {
+            retained += sizes[level];
+        }
+        return retained;
+    }
+
+    private int capacity() {
+        int capacity = 0;
+        for (int level = 0; level < levelCount; level++) {
+            capacity += levelCapacity(level);
+        }
+        return capacity;
+    }
+
+    private int levelCapacity(int level) {
+        int depth = levelCount - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(2.0 / 3, depth)));
+    }
+
+    private void append(int level, double value) {
+        double[] items = levels[level];
+        if (sizes[level] == items.length) {
+            items = levels[level] = Arrays.copyOf(items, Math.max(MIN_LEVEL_CAPACITY, items.length * 2));
+        }
+        items[sizes[level]++] = value;
+    }
+
+    /**
+     * Halves the lowest level that reached its capacity, promoting every other item of it.
+     */
+    private void compress() {
+        int level = 0;
+        while (sizes[level] < levelCapacity(level)) {
+            level++;
+        }
+        if (level == levelCount - 1) {
+            addLevel();
+        }
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        // An odd item out stays at this level with its weight.
+        int from = size % 2;
+        int offset = ThreadLocalRandom.current().nextInt(2);
+        for (int i = from + offset; i < size; i += 2) {
+            append(level + 1, items[i]);
+        }
+        sizes[level] = from;
+    }
+
+    private void addLevel() {
+        if (levelCount == levels.length) {
+            levels = Arrays.copyOf(levels, levelCount * 2);
+            sizes = Arrays.copyOf(sizes, levelCount * 2);
+        }
+        levels[levelCount] = new double[MIN_LEVEL_CAPACITY];
+        sizes[levelCount] = 0;
+        levelCount++;
+    }
+
+    /**
+     * Sorted, weighted view of the values added to one sketch and removed through another,
+     * answering rank and quantile queries of the values remaining. The rank error is bounded by
+     * the errors of both sketches, relative to the values added plus the values removed.
+     */
+    public static final class SortedView {
+
+        private final double[] values;
+        /** Estimated number of remaining values less than or equal to each value, non-decreasing. */
+        private final long[] ranks;
+        private final long count;
+
+        private SortedView(double[] values, long[] ranks, long count) {
+            this.values = values;
+            this.ranks = ranks;
+            this.count = count;
+        }
+
+        /**
+         * @param added The values added.
+         * @param removed The values removed, each of which was added before.
+         * @return The view of the remaining values.
+         */
+        public static SortedView of(QuantileSketch added, QuantileSketch removed) {
+            int size = added.retained() + removed.retained();
+            double[] values = new double[size];
+            long[] weights = new long[size];
+            int filled = added.copyTo(values, weights, 0, 1);
+            removed.copyTo(values, weights, filled, -1);
+            long count = added.n - removed.n;
+
+            // Sort the values as primitives, then sum the weights of each distinct value by its position
+            double[] sortedValues = values.clone();
+            Arrays.sort(sortedValues);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || Double.compare(sortedValues[distinct - 1], sortedValues[i]) != 0) {
+                    sortedValues[distinct++] = sortedValues[i];
+                }
+            }
+            long[] ranks = new long[distinct];
+            for (int i = 0; i < size; i++) {
+                ranks[Arrays.binarySearch(sortedValues, 0, distinct, values[i])] += weights[i];
+            }
+            long cumulative = 0;
+            long rank = 0;
+            for (int i = 0; i < distinct; i++) {
+                cumulative += ranks[i];
+                // Removals sampled differently from additions can make the running sum dip or overshoot.
+                rank = Math.min(count, Math.max(rank, cumulative));
+                ranks[i] = rank;
+            }
+            return new SortedView(Arrays.copyOf(sortedValues, distinct), ranks, count);
+        }
+
+        /**
+         * @return The number of remaining values.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @param value A value.
+         * @return The estimated number of remaining values less than or equal to the value.
+         */
+        public long rank(double value) {
+            int index = Arrays.binarySearch(values, value);
+            int last = index >= 0 ? index : -index - 2;
+            return last < 0 ? 0 : ranks[last];
+        }
+
+        /**
+         * @param fraction The normalized rank, between 0 and 1.
+         * @return The smallest value whose estimated rank reaches the fraction of the remaining values,
+         *         or NaN if no value remains.
+         */
+        public double quantile(double fraction) {
+            if (count <= 0) {
+                return Double.NaN;
+            }
+            long target = Math.max(1, (long) Math.ceil(fraction * count));
+            int low = 0;
+            int high = ranks.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ranks[middle] >= target) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return values[low];
+        }
+    }
+
+    private int copyTo(double[] values, long[] weights, int offset, long sign) {
+        for (int level = 0; level < levelCount; level++) {
+            long weight = sign << level;
+            for (int i = 0; i < sizes[level]; i++) {
+                values[offset] = levels[level][i];
+                weights[offset] = weight;
+                offset++;
+            }
+        }
+        return offset;
+    }
+}
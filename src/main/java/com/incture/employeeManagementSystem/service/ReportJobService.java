@@ -0,0 +1,278 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.incture.employeeManagementSystem.entities.ReportJob;
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+import com.opencsv.CSVWriter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Generates CSV reports as background jobs on a bounded executor, one file per job.
+ * Jobs are keyed by report and {@link EmployeeDataVersion}: a request for a report the data has not
+ * changed since attaches to the job already queued, running or completed for it, so concurrent requests
+ * generate the file once and repeat downloads cost no database work. A completed file is written under
+ * a temporary name and moved into place, so it is never read half written. Once a report has been
+ * generated for a newer version, new requests no longer attach to older versions; their jobs and files
+ * stay for the superseded retention, so requests and pollers that were handed them can still download them.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportJobService.class);
+
+    private static final String FILE_SUFFIX = ".csv";
+
+    @Autowired
+    private EmployeeDataVersion employeeDataVersion;
+
+    @Value("${employee.report.directory:uploads/reports}")
+    private Path directory;
+
+    @Value("${employee.report.threads:2}")
+    private int threads;
+
+    @Value("${employee.report.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${employee.report.wait-timeout:5m}")
+    private Duration waitTimeout;
+
+    @Value("${employee.report.superseded-retention:5m}")
+    private Duration supersededRetention;
+
+    private ThreadPoolExecutor executor;
+
+    /** Removes superseded jobs and their files once their retention has passed. */
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-report-cleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Jobs by report and data version, for attaching identical requests. */
+    private final Map<String, Entry> jobsByKey = new ConcurrentHashMap<>();
+
+    private final Map<String, Entry> jobsById = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the report directory and removes the files of an earlier run, whose jobs are gone,
+     * since data versions restart from zero.
+     *
+     * @throws IOException if the directory cannot be created or read.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-report-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        cleaner.shutdownNow();
+    }
+
+    /**
+     * Returns the job of a report for the current employee data, queuing one if there is none or the last one failed.
+     *
+     * @param report The file name of the report, which identifies it.
+     * @param generator Writes the report; only called if a new job is queued.
+     * @return The new or existing job, whose progress can be polled with {@link #getJob(String)}.
+     * @throws ServiceBusyException if too many reports are already queued.
+     */
+    public ReportJob submit(String report, Consumer<CSVWriter> generator) {
+        return submitEntry(report, generator).job;
+    }
+
+    /**
+     * Returns the file of a report for the current employee data, waiting for its job if needed.
+     *
+     * @param report The file name of the report, which identifies it.
+     * @param generator Writes the report; only called if a new job is queued.
+     * @return The generated file.
+     * @throws IOException if the report could not be generated.
+     * @throws ServiceBusyException if too many reports are queued or the report takes longer than the wait timeout.
+     */
+    public Path generate(String report, Consumer<CSVWriter> generator) throws IOException {
+        Entry entry = submitEntry(report, generator);
+        try {
+            return entry.file.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for report " + report, e);
+        } catch (ExecutionException e) {
+            throw new IOException("Report " + report + " failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceBusyException("Report " + report + " is still being generated, try again later");
+        }
+    }
+
+    private Entry submitEntry(String report, Consumer<CSVWriter> generator) {
+        // Read before the rows, so a change committed during generation labels the file older rather than newer
+        long dataVersion = employeeDataVersion.get();
+        String key = report + "@" + dataVersion;
+        Entry[] created = new Entry[1];
+        Entry entry = jobsByKey.compute(key, (ignored, existing) -> {
+            if (existing != null && existing.job.getStatus() != ReportJob.Status.FAILED) {
+                return existing;
+            }
+            if (existing != null) {
+                jobsById.remove(existing.job.getId());
+            }
+            created[0] = new Entry(new ReportJob(UUID.randomUUID().toString(), report, dataVersion));
+            return created[0];
+        });
+        if (entry != created[0]) {
+            LOGGER.debug("Report {} for data version {} attached to job {}", report, dataVersion, entry.job.getId());
+            return entry;
+        }
+        jobsById.put(entry.job.getId(), entry);
+        try {
+            executor.execute(() -> generate(entry, generator));
+        } catch (RejectedExecutionException e) {
+            // Requests that attached in the meantime see the failure and can resubmit
+            fail(entry, "Too many reports queued");
+            throw new ServiceBusyException("Too many reports queued, try again later");
+        }
+        LOGGER.info("Queued report {} for data version {} as job {}", report, dataVersion, entry.job.getId());
+        return entry;
+    }
+
+    /**
+     * @param id The job ID.
+     * @return The job, or null if it is unknown or was superseded by a newer one longer than the retention ago.
+     */
+    public ReportJob getJob(String id) {
+        Entry entry = jobsById.get(id);
+        return entry == null ? null : entry.job;
+    }
+
+    /**
+     * @param id The job ID.
+     * @return The file of the job, or empty if the job is unknown or has not completed.
+     */
+    public Optional<Path> getFile(String id) {
+        Entry entry = jobsById.get(id);
+        if (entry == null || entry.job.getStatus() != ReportJob.Status.COMPLETED) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.file.join());
+    }
+
+    private void generate(Entry entry, Consumer<CSVWriter> generator) {
+        ReportJob job = entry.job;
+        job.start();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, job.getId(), ".tmp");
+            try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8);
+                    CSVWriter writer = new CSVWriter(out)) {
+                generator.accept(writer);
+            }
+            Path file = Files.move(temp, directory.resolve(job.getId() + FILE_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            job.complete(Files.size(file));
+            LOGGER.info("Report job {} completed: {} bytes", job.getId(), job.getSize());
+            removeSuperseded(job);
+            entry.file.complete(file);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Report job {} failed", job.getId(), e);
+            deleteQuietly(temp);
+            fail(entry, e.getMessage());
+        }
+    }
+
+    private void fail(Entry entry, String error) {
+        entry.job.fail(error);
+        entry.file.completeExceptionally(new IOException(error));
+    }
+
+    /**
+     * Stops new requests from attaching to the finished jobs of the same report for older data versions,
+     * and schedules the removal of those jobs and their files after the superseded retention.
+     */
+    private void removeSuperseded(ReportJob latest) {
+        jobsByKey.values().removeIf(entry -> {
+            ReportJob job = entry.job;
+            boolean superseded = job.getReport().equals(latest.getReport()) && job.getDataVersion() < latest.getDataVersion()
+                    && (job.getStatus() == ReportJob.Status.COMPLETED || job.getStatus() == ReportJob.Status.FAILED);
+            if (superseded) {
+                // Requests that attached to the job, and pollers of its ID, may not have downloaded the file yet
+                cleaner.schedule(() -> remove(entry), supersededRetention.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return superseded;
+        });
+    }
+
+    private void remove(Entry entry) {
+        ReportJob job = entry.job;
+        jobsById.remove(job.getId());
+        if (job.getStatus() == ReportJob.Status.COMPLETED) {
+            // Downloads already reading the file keep it open until they finish
+            deleteQuietly(entry.file.join());
+        }
+        LOGGER.debug("Removed superseded report job {}", job.getId());
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete report file {}", file, e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final ReportJob job;
+        private final CompletableFuture<Path> file = new CompletableFuture<>();
+
+        Entry(ReportJob job) {
+            this.job = job;
+        }
+    }
+}
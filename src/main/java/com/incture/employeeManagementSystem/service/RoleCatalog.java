@@ -0,0 +1,87 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.incture.employeeManagementSystem.dao.RoleRepository;
+import com.incture.employeeManagementSystem.entities.Role;
+
+/**
+ * In-memory copy of the roles table, loaded at startup. The table is tiny and almost never
+ * changes, so role lookups during registration are answered without a query.
+ * The copy is replaced as a whole when a role changes, see {@link AuthCacheEvictionListener}.
+ * The returned roles are detached and shared, and must not be modified.
+ */
+@Component
+public class RoleCatalog implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoleCatalog.class);
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Value("${employee.role-catalog.miss-reload-interval:30s}")
+    private Duration missReloadInterval;
+
+    private volatile Map<String, Role> roles = Map.of();
+    private volatile boolean stale = true;
+
+    /** Earliest {@link System#nanoTime()} at which an unknown name may trigger another reload. */
+    private final AtomicLong nextMissReload = new AtomicLong(System.nanoTime());
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * Reloads all roles from the database.
+     */
+    public void reload() {
+        roles = roleRepository.findAll().stream().collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+        stale = false;
+        LOGGER.info("Role catalog loaded: {} roles", roles.size());
+    }
+
+    /**
+     * Marks the catalog for reloading on the next lookup.
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Finds a role by its name. An unknown name triggers a reload, in case the role was added
+     * without going through this application, but at most once per miss reload interval so
+     * registrations with made-up roles cannot keep the catalog reloading.
+     *
+     * @param name The role name.
+     * @return The role, or an empty Optional if the name is blank or no role has that name.
+     */
+    public Optional<Role> findByName(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        if (stale || (!roles.containsKey(name) && claimMissReload())) {
+            reload();
+        }
+        return Optional.ofNullable(roles.get(name));
+    }
+
+    private boolean claimMissReload() {
+        long now = System.nanoTime();
+        long next = nextMissReload.get();
+        return now - next >= 0 && nextMissReload.compareAndSet(next, now + missReloadInterval.toNanos());
+    }
+}
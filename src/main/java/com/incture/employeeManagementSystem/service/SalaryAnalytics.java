@@ -0,0 +1,613 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.SalaryDistribution;
+import com.incture.employeeManagementSystem.entities.SalaryStatistics;
+import com.incture.employeeManagementSystem.exception.InvalidFieldSelectionException;
+
+/**
+ * In-memory columnar copy of the employee attributes needed for salary statistics.
+ * Salaries are held in a primitive double array and department, job title and role as
+ * dictionary codes in int arrays, one slot per employee in ID order. Statistics are computed in
+ * one pass over the columns, split across the fork-join pool for large tables, without touching
+ * the database. The columns are loaded once the application is ready and kept up to date from
+ * {@link EmployeeChangeEvent}s.
+ * <p>
+ * Alongside the columns, each group keeps {@link QuantileSketch}es of the salaries added to and
+ * removed from it, so percentiles and histograms are answered from a few hundred values per group
+ * rather than a scan. A group is re-sketched once its removals reach half of its remaining salaries,
+ * which keeps the rank error within twice the error of one sketch. Each group also keeps a bitmap of
+ * the IDs of its employees with a salary, so re-sketching reads only that group's salaries.
+ */
+@Component
+public class SalaryAnalytics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SalaryAnalytics.class);
+
+    /** The attributes statistics can be grouped by, in column order. */
+    private static final List<String> DIMENSIONS = List.of("department", "jobTitle", "role");
+
+    /** Rows aggregated by one fork-join task; smaller tables are aggregated on the calling thread. */
+    private static final int ROWS_PER_TASK = 1 << 16;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** The percentiles of a salary distribution, in response order. */
+    private static final double[] PERCENTILES = { 0.10, 0.25, 0.50, 0.75, 0.90, 0.95, 0.99 };
+
+    public static final int MAX_HISTOGRAM_BUCKETS = 100;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /** Guards the columns and the changes buffered during a rebuild. */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Columns columns = new Columns();
+
+    /** Changes applied while a rebuild reads the table, to replay on its result; null when not rebuilding. */
+    private List<EmployeeChangeEvent> changesDuringRebuild;
+
+    private volatile boolean ready;
+
+    /**
+     * Loads the columns from the database, replacing their current content. The table is read into
+     * new columns without holding the lock, so writers are not held up by the scan; the changes
+     * applied meanwhile are replayed on the new columns before they replace the current ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Columns loaded = new Columns();
+        boolean complete = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = employeeRepository.streamAnalyticsAttributes()) {
+                    rows.forEach(row -> loaded.put((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (Double) row[4]));
+                }
+            });
+            complete = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (complete) {
+                    // The scan may or may not have seen these changes; applying them again in order is harmless
+                    changesDuringRebuild.forEach(loaded::apply);
+                    columns = loaded;
+                    ready = true;
+                }
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        LOGGER.info("Salary analytics loaded with {} employees in {} ms", loaded.size, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies committed employee changes to the columns.
+     *
+     * @param event The changes made by {@link EmployeeService}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(EmployeeChangeEvent.DERIVED_STATE_ORDER)
+    public void onEmployeeChange(EmployeeChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            columns.apply(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Computes count, min, max, sum, mean and standard deviation of salaries per group.
+     *
+     * @param groupBy The attribute to group by: department, jobTitle or role.
+     * @return The statistics of each group that has employees, ordered by group with null first.
+     * @throws InvalidFieldSelectionException if the attribute cannot be grouped by.
+     */
+    public List<SalaryStatistics> statistics(String groupBy) {
+        int dimension = dimension(groupBy);
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Columns columns = this.columns;
+            Dictionary dictionary = columns.dictionaries[dimension];
+            Accumulator total = new AggregateTask(columns.salaries, columns.groups[dimension], columns.deleted, dictionary.size(),
+                    0, columns.size).aggregate();
+            List<SalaryStatistics> result = new ArrayList<>();
+            for (int group = 0; group < dictionary.size(); group++) {
+                if (total.employees[group] > 0) {
+                    result.add(total.toStatistics(group, dictionary.decode(group)));
+                }
+            }
+            result.sort(Comparator.comparing(SalaryStatistics::getGroup, Comparator.nullsFirst(Comparator.naturalOrder())));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimates salary percentiles and a histogram per group from the group sketches, without scanning the columns.
+     *
+     * @param groupBy The attribute to group by: department, jobTitle or role.
+     * @param buckets The number of equal-width histogram buckets between the lowest and highest salary.
+     * @return The distribution of each group that has salaries, ordered by group with null first.
+     * @throws InvalidFieldSelectionException if the attribute cannot be grouped by or the bucket count is out of range.
+     */
+    public List<SalaryDistribution> distribution(String groupBy, int buckets) {
+        int dimension = dimension(groupBy);
+        if (buckets < 1 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            throw new InvalidFieldSelectionException("Histogram buckets must be between 1 and " + MAX_HISTOGRAM_BUCKETS);
+        }
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Dictionary dictionary = columns.dictionaries[dimension];
+            List<GroupQuantiles> sketches = columns.quantiles.get(dimension);
+            List<SalaryDistribution> result = new ArrayList<>();
+            for (int group = 0; group < sketches.size(); group++) {
+                GroupQuantiles sketch = sketches.get(group);
+                QuantileSketch.SortedView view = QuantileSketch.SortedView.of(sketch.added, sketch.removed);
+                if (view.getCount() > 0) {
+                    result.add(toDistribution(dictionary.decode(group), sketch, view, buckets));
+                }
+            }
+            result.sort(Comparator.comparing(SalaryDistribution::getGroup, Comparator.nullsFirst(Comparator.naturalOrder())));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static SalaryDistribution toDistribution(String name, GroupQuantiles sketch, QuantileSketch.SortedView view,
+            int buckets) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + Math.round(percentile * 100), view.quantile(percentile));
+        }
+        double lowest = view.quantile(0);
+        double highest = view.quantile(1);
+        int bucketCount = highest > lowest ? buckets : 1;
+        double width = (highest - lowest) / bucketCount;
+        List<SalaryDistribution.Bucket> histogram = new ArrayList<>(bucketCount);
+        long below = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            double lower = lowest + bucket * width;
+            double upper = bucket == bucketCount - 1 ? highest : lowest + (bucket + 1) * width;
+            long upTo = view.rank(upper);
+            histogram.add(new SalaryDistribution.Bucket(lower, upper, upTo - below));
+            below = upTo;
+        }
+        return new SalaryDistribution(name, view.getCount(), sketch.rankError(), percentiles, histogram);
+    }
+
+    private static int dimension(String groupBy) {
+        int dimension = DIMENSIONS.indexOf(groupBy);
+        if (dimension < 0) {
+            throw new InvalidFieldSelectionException("Cannot group salaries by: " + groupBy + ", use one of " + DIMENSIONS);
+        }
+        return dimension;
+    }
+
+    private void ensureLoaded() {
+        if (!ready) {
+            synchronized (this) {
+                if (!ready) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    /**
+     * The salaries added to and removed from one group. Sketches cannot forget a value, so a change
+     * of salary or group is recorded as a removal from the old group and an addition to the new one.
+     */
+    private static final class GroupQuantiles {
+
+        QuantileSketch added = new QuantileSketch();
+        QuantileSketch removed = new QuantileSketch();
+        /** The IDs of the group's employees that have a salary. */
+        final Roaring64Bitmap members = new Roaring64Bitmap();
+
+        long count() {
+            return added.getN() - removed.getN();
+        }
+
+        /**
+         * @return Whether removals have grown to the point where the rank error should be reset by re-sketching.
+         */
+        boolean isDrifted() {
+            return !added.isExact() && removed.getN() * 2 > count();
+        }
+
+        /**
+         * @return The rank error bound relative to the remaining salaries.
+         */
+        double rankError() {
+            long count = count();
+            if (count == 0) {
+                return 0;
+            }
+            return (added.getNormalizedRankError() * added.getN() + removed.getNormalizedRankError() * removed.getN()) / count;
+        }
+    }
+
+    /**
+     * Aggregates a range of rows, splitting it in halves until each part is small enough for one task.
+     */
+    private static final class AggregateTask extends RecursiveTask<Accumulator> {
+
+        private final double[] salaries;
+        private final int[] codes;
+        private final boolean[] deleted;
+        private final int groupCount;
+        private final int from;
+        private final int to;
+
+        AggregateTask(double[] salaries, int[] codes, boolean[] deleted, int groupCount, int from, int to) {
+            this.salaries = salaries;
+            this.codes = codes;
+            this.deleted = deleted;
+            this.groupCount = groupCount;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Runs on the calling thread for small tables, otherwise in the common fork-join pool.
+         */
+        Accumulator aggregate() {
+            return to - from <= ROWS_PER_TASK ? compute() : ForkJoinPool.commonPool().invoke(this);
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                return Accumulator.of(salaries, codes, deleted, groupCount, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(salaries, codes, deleted, groupCount, from, middle);
+            AggregateTask right = new AggregateTask(salaries, codes, deleted, groupCount, middle, to);
+            left.fork();
+            Accumulator result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * Per-group running statistics of a range of rows. The variance is kept as the sum of squared
+     * deviations from the mean, which ranges merge without losing precision.
+     */
+    private static final class Accumulator {
+
+        final long[] employees;
+        final long[] count;
+        final double[] sum;
+        final double[] mean;
+        final double[] squaredDeviations;
+        final double[] min;
+        final double[] max;
+
+        Accumulator(int groupCount) {
+            employees = new long[groupCount];
+            count = new long[groupCount];
+            sum = new double[groupCount];
+            mean = new double[groupCount];
+            squaredDeviations = new double[groupCount];
+            min = new double[groupCount];
+            max = new double[groupCount];
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        }
+
+        /**
+         * Aggregates a range in two passes: sums, counts and extremes first, then deviations from the group means.
+         */
+        static Accumulator of(double[] salaries, int[] codes, boolean[] deleted, int groupCount, int from, int to) {
+            Accumulator accumulator = new Accumulator(groupCount);
+            for (int row = from; row < to; row++) {
+                if (deleted[row]) {
+                    continue;
+                }
+                int group = codes[row];
+                accumulator.employees[group]++;
+                double salary = salaries[row];
+                if (salary == salary) {
+                    accumulator.count[group]++;
+                    accumulator.sum[group] += salary;
+                    accumulator.min[group] = Math.min(accumulator.min[group], salary);
+                    accumulator.max[group] = Math.max(accumulator.max[group], salary);
+                }
+            }
+            for (int group = 0; group < groupCount; group++) {
+                if (accumulator.count[group] > 0) {
+                    accumulator.mean[group] = accumulator.sum[group] / accumulator.count[group];
+                }
+            }
+            for (int row = from; row < to; row++) {
+                double salary = salaries[row];
+                if (!deleted[row] && salary == salary) {
+                    double deviation = salary - accumulator.mean[codes[row]];
+                    accumulator.squaredDeviations[codes[row]] += deviation * deviation;
+                }
+            }
+            return accumulator;
+        }
+
+        void merge(Accumulator other) {
+            for (int group = 0; group < employees.length; group++) {
+                employees[group] += other.employees[group];
+                long n = count[group] + other.count[group];
+                if (other.count[group] > 0) {
+                    double delta = other.mean[group] - mean[group];
+                    squaredDeviations[group] += other.squaredDeviations[group]
+                            + delta * delta * count[group] * other.count[group] / n;
+                    mean[group] += delta * other.count[group] / n;
+                    sum[group] += other.sum[group];
+                    min[group] = Math.min(min[group], other.min[group]);
+                    max[group] = Math.max(max[group], other.max[group]);
+                    count[group] = n;
+                }
+            }
+        }
+
+        SalaryStatistics toStatistics(int group, String name) {
+            long n = count[group];
+            if (n == 0) {
+                return new SalaryStatistics(name, employees[group], 0, null, null, 0, null, null);
+            }
+            return new SalaryStatistics(name, employees[group], n, min[group], max[group], sum[group], mean[group],
+                    Math.sqrt(squaredDeviations[group] / n));
+        }
+    }
+
+    /**
+     * Maps the distinct values of one attribute, including null, to dense codes.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * The columns, dictionaries and group sketches, replaced as a whole by a rebuild.
+     */
+    private static final class Columns {
+
+        private final Dictionary[] dictionaries = { new Dictionary(), new Dictionary(), new Dictionary() };
+        private long[] ids = new long[INITIAL_CAPACITY];
+        /** NaN where the employee has no salary. */
+        private double[] salaries = new double[INITIAL_CAPACITY];
+        private int[][] groups = new int[DIMENSIONS.size()][INITIAL_CAPACITY];
+        private boolean[] deleted = new boolean[INITIAL_CAPACITY];
+        /** Per dimension, the salary sketches of each group by dictionary code. */
+        private final List<List<GroupQuantiles>> quantiles = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        private int size;
+        private int deletedCount;
+
+        private void apply(EmployeeChangeEvent event) {
+            for (EmployeeChange change : event.getChanges()) {
+                Employee after = change.getAfter();
+                if (after == null) {
+                    remove(change.getId());
+                } else {
+                    put(after.getId(), after.getDepartment(), after.getJobTitle(), after.getRole(), after.getSalary());
+                }
+            }
+        }
+
+        private void put(long id, String department, String jobTitle, String role, Double salary) {
+            int slot = Arrays.binarySearch(ids, 0, size, id);
+            int[] previous = null;
+            if (slot < 0) {
+                slot = -slot - 1;
+                insertSlot(slot);
+                ids[slot] = id;
+            } else if (deleted[slot]) {
+                deleted[slot] = false;
+                deletedCount--;
+            } else {
+                previous = new int[] { groups[0][slot], groups[1][slot], groups[2][slot] };
+            }
+            double value = salary == null ? Double.NaN : salary;
+            int[] codes = { dictionaries[0].encode(department), dictionaries[1].encode(jobTitle), dictionaries[2].encode(role) };
+            if (previous != null && Arrays.equals(previous, codes) && Double.compare(salaries[slot], value) == 0) {
+                return;
+            }
+            if (previous != null) {
+                unrecord(slot);
+            }
+            salaries[slot] = value;
+            for (int dimension = 0; dimension < codes.length; dimension++) {
+                groups[dimension][slot] = codes[dimension];
+            }
+            record(slot);
+            if (previous != null) {
+                resketchDrifted(previous);
+            }
+        }
+
+        private void remove(long id) {
+            int slot = Arrays.binarySearch(ids, 0, size, id);
+            if (slot < 0 || deleted[slot]) {
+                return;
+            }
+            unrecord(slot);
+            deleted[slot] = true;
+            deletedCount++;
+            resketchDrifted(new int[] { groups[0][slot], groups[1][slot], groups[2][slot] });
+            if (deletedCount > INITIAL_CAPACITY && deletedCount > size / 4) {
+                compact();
+            }
+        }
+
+        /**
+         * Adds the salary of a slot to the sketches of its groups.
+         */
+        private void record(int slot) {
+            double salary = salaries[slot];
+            if (salary != salary) {
+                return;
+            }
+            for (int dimension = 0; dimension < groups.length; dimension++) {
+                GroupQuantiles sketch = groupQuantiles(dimension, groups[dimension][slot]);
+                sketch.added.update(salary);
+                sketch.members.addLong(ids[slot]);
+            }
+        }
+
+        /**
+         * Records the salary of a slot as removed from the sketches of its groups.
+         */
+        private void unrecord(int slot) {
+            double salary = salaries[slot];
+            if (salary != salary) {
+                return;
+            }
+            for (int dimension = 0; dimension < groups.length; dimension++) {
+                GroupQuantiles sketch = groupQuantiles(dimension, groups[dimension][slot]);
+                sketch.removed.update(salary);
+                sketch.members.removeLong(ids[slot]);
+            }
+        }
+
+        private GroupQuantiles groupQuantiles(int dimension, int code) {
+            List<GroupQuantiles> sketches = quantiles.get(dimension);
+            while (sketches.size() <= code) {
+                sketches.add(new GroupQuantiles());
+            }
+            return sketches.get(code);
+        }
+
+        /**
+         * Rebuilds the sketches of the given groups, one per dimension, if removals have made them drift.
+         * A rebuild looks up the salaries of the group's members only, in O(members × log rows), and
+         * follows at least as many removals as the group has salaries, so its cost is amortized over them.
+         */
+        private void resketchDrifted(int[] codes) {
+            for (int dimension = 0; dimension < codes.length; dimension++) {
+                GroupQuantiles sketch = groupQuantiles(dimension, codes[dimension]);
+                if (!sketch.isDrifted()) {
+                    continue;
+                }
+                QuantileSketch fresh = new QuantileSketch();
+                // Members iterate in ID order, like the slots, so each search starts after the previous slot
+                int slot = 0;
+                LongIterator members = sketch.members.getLongIterator();
+                while (members.hasNext()) {
+                    slot = Arrays.binarySearch(ids, slot, size, members.next());
+                    fresh.update(salaries[slot]);
+                }
+                sketch.added = fresh;
+                sketch.removed = new QuantileSketch();
+            }
+        }
+
+        /**
+         * Opens a slot at the given position. New IDs are normally the largest, so this is an append.
+         */
+        private void insertSlot(int slot) {
+            if (size == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                salaries = Arrays.copyOf(salaries, capacity);
+                deleted = Arrays.copyOf(deleted, capacity);
+                for (int i = 0; i < groups.length; i++) {
+                    groups[i] = Arrays.copyOf(groups[i], capacity);
+                }
+            }
+            int moved = size - slot;
+            if (moved > 0) {
+                System.arraycopy(ids, slot, ids, slot + 1, moved);
+                System.arraycopy(salaries, slot, salaries, slot + 1, moved);
+                System.arraycopy(deleted, slot, deleted, slot + 1, moved);
+                for (int[] column : groups) {
+                    System.arraycopy(column, slot, column, slot + 1, moved);
+                }
+            }
+            deleted[slot] = false;
+            size++;
+        }
+
+        /**
+         * Drops the slots of deleted employees, keeping the remaining rows in ID order.
+         */
+        private void compact() {
+            int live = 0;
+            for (int row = 0; row < size; row++) {
+                if (deleted[row]) {
+                    continue;
+                }
+                ids[live] = ids[row];
+                salaries[live] = salaries[row];
+                for (int[] column : groups) {
+                    column[live] = column[row];
+                }
+                deleted[live] = false;
+                live++;
+            }
+            size = live;
+            deletedCount = 0;
+        }
+    }
+}
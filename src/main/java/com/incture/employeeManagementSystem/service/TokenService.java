@@ -0,0 +1,137 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.incture.employeeManagementSystem.entities.TokenResponse;
+
+/**
+ * Issues and verifies the signed access tokens of the stateless authentication mode.
+ * A token is "payload.signature", both base64url encoded. The payload holds the username, role,
+ * expiry (epoch seconds) and a random token ID; the signature is an HMAC-SHA256 of the payload.
+ * Verification needs neither the database nor a session, so any node sharing the secret accepts the token.
+ * Revoked token IDs are kept in memory on this node until the token would have expired anyway.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.auth.mode", havingValue = "token")
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration expiry;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> mac;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenService(@Value("${employee.auth.token.secret:}") String secret,
+            @Value("${employee.auth.token.expiry:15m}") Duration expiry) {
+        this(secret, expiry, Clock.systemUTC());
+    }
+
+    TokenService(String secret, Duration expiry, Clock clock) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("employee.auth.token.secret must be at least " + MIN_SECRET_BYTES + " bytes in token mode");
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.expiry = expiry;
+        this.clock = clock;
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Issues a token for an authenticated user.
+     *
+     * @param username The username.
+     * @param role The role name granted to the user, e.g. ROLE_Admin.
+     * @return The token and its expiry.
+     */
+    public TokenResponse issue(String username, String role) {
+        Instant expiresAt = clock.instant().plus(expiry);
+        byte[] id = new byte[12];
+        random.nextBytes(id);
+        String payload = String.join("\n", username, role, Long.toString(expiresAt.getEpochSecond()), ENCODER.encodeToString(id));
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return new TokenResponse(encodedPayload + "." + sign(encodedPayload), expiresAt);
+    }
+
+    /**
+     * Verifies a token's signature, expiry and revocation.
+     *
+     * @param token The token as sent by the client.
+     * @return The token's claims, or an empty Optional if the token is invalid, expired or revoked.
+     */
+    public Optional<Claims> verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, separator);
+        byte[] signature = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(signature, sign(encodedPayload).getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.empty();
+        }
+        String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\n", -1);
+        if (fields.length != 4) {
+            return Optional.empty();
+        }
+        Claims claims = new Claims(fields[0], fields[1], Instant.ofEpochSecond(Long.parseLong(fields[2])), fields[3]);
+        if (!clock.instant().isBefore(claims.expiresAt()) || revoked.containsKey(claims.id())) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    /**
+     * Revokes a token before it expires, e.g. on logout. Expired entries are dropped from the
+     * revocation list at the same time, so it only ever holds tokens that are still valid.
+     *
+     * @param claims The claims of the token to revoke.
+     */
+    public void revoke(Claims claims) {
+        long now = clock.instant().getEpochSecond();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        revoked.put(claims.id(), claims.expiresAt().getEpochSecond());
+    }
+
+    private String sign(String encodedPayload) {
+        return ENCODER.encodeToString(mac.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * The verified contents of a token.
+     */
+    public record Claims(String username, String role, Instant expiresAt, String id) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.incture.employeeManagementSystem.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.incture.employeeManagementSystem.entities.UserAccount;
+
+/**
+ * Bounded cache of user accounts by username, so repeated logins do not query the database.
+ * Only existing users are cached. Entries expire after employee.user-cache.expire-after-write and
+ * are evicted as soon as the user or their role changes, see {@link AuthCacheEvictionListener}.
+ */
+@Component
+public class UserAccountCache {
+
+    private final Cache<String, UserAccount> cache;
+
+    public UserAccountCache(
+            @Value("${employee.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${employee.user-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached account for a username, loading it with the given loader on a miss.
+     * Concurrent misses for the same username share a single load.
+     *
+     * @param username The username.
+     * @param loader Loads the account from the database.
+     * @return The account, or an empty Optional if the user does not exist.
+     */
+    public Optional<UserAccount> get(String username, Function<String, Optional<UserAccount>> loader) {
+        return Optional.ofNullable(cache.get(username, name -> loader.apply(name).orElse(null)));
+    }
+
+    /**
+     * @param username The username.
+     * @return Whether an account for the username is cached.
+     */
+    public boolean contains(String username) {
+        return cache.getIfPresent(username) != null;
+    }
+
+    /**
+     * Evicts the account of a user.
+     * @param username The username.
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * Evicts all accounts, e.g. when a role changes.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return The underlying Caffeine cache, for metrics binding.
+     */
+    public Cache<String, UserAccount> getNativeCache() {
+        return cache;
+    }
+}
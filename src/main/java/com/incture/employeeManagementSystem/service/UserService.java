@@ -8,24 +8,24 @@ import org.springframework.stereotype.Service;
 
 import com.incture.employeeManagementSystem.dao.UserRepository;
 import com.incture.employeeManagementSystem.entities.User;
+import com.incture.employeeManagementSystem.entities.UserAccount;
 
-import java.util.stream.Collectors;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.GrantedAuthority;
-
-import java.util.List;
-import java.util.Set;
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service class responsible for user-related operations such as registering a new user and loading user details for authentication.
  * Implements Spring Security's UserDetailsService interface for loading user data based on username.
  */
 @Service
+@Timed(value = "service.method", percentiles = { 0.5, 0.95, 0.99 })
 public class UserService implements UserDetailsService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserAccountCache userAccountCache;
+
     /**
      * Registers a new user by saving the user details to the repository.
      *
@@ -36,8 +36,19 @@ public class UserService implements UserDetailsService {
         return userRepository.save(user);
     }
 
+    /**
+     * Checks whether a username is taken. Users with a cached account are known to exist without a query.
+     *
+     * @param username The username to check.
+     * @return true if a user with the username exists.
+     */
+    public boolean isUsernameTaken(String username) {
+        return userAccountCache.contains(username) || userRepository.existsByUsername(username);
+    }
+
     /**
      * Loads user details by username for authentication, required by Spring Security's UserDetailsService interface.
+     * Accounts are served from the user account cache; a miss loads the user and role in a single query.
      * If the user is not found, a UsernameNotFoundException is thrown.
      *
      * @param username The username of the user to be loaded.
@@ -46,14 +57,10 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Find user by username, throw exception if not found
-        User user = userRepository.findByUsername(username)
+        UserAccount account = userAccountCache.get(username, name -> userRepository.findWithRoleByUsername(name).map(UserAccount::of))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        // Create granted authority from user role
-        GrantedAuthority authority = new SimpleGrantedAuthority(user.getRole().getName());
-
         // Return UserDetails object with username, password, and authority
-        return new org.springframework.security.core.userdetails.User(user.getUsername(), user.getPassword(), List.of(authority));
+        return account.toUserDetails();
     }
 }
@@ -0,0 +1,166 @@
+package com.incture.employeeManagementSystem.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incture.employeeManagementSystem.EmployeeManagementSystemApplication;
+import com.incture.employeeManagementSystem.dao.RoleRepository;
+import com.incture.employeeManagementSystem.dao.UserRepository;
+import com.incture.employeeManagementSystem.entities.Role;
+import com.incture.employeeManagementSystem.entities.User;
+
+/**
+ * Compares throughput and latency of platform-thread and virtual-thread request handling.
+ * Each mode boots the full application on a random port against an in-memory H2 database,
+ * logs in through the form login and drives a DB-bound endpoint with more concurrent clients
+ * than Tomcat has platform threads. Results are printed and written to target/benchmark/thread-mode.json.
+ *
+ * Run with: mvn test -Pbenchmark -Dtest=ThreadModeBenchmark
+ * Tunables: -Dbenchmark.employees, -Dbenchmark.concurrency, -Dbenchmark.requests
+ */
+@Tag("benchmark")
+class ThreadModeBenchmark {
+
+    private static final int EMPLOYEES = Integer.getInteger("benchmark.employees", 10_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final String PATH = "/employees/filter/page?jobTitle=Engineer&size=50";
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        results.put("platform", run(false));
+        results.put("virtual", run(true));
+
+        results.forEach((mode, result) -> System.out.printf("%-8s %s%n", mode, result));
+        File output = new File("target/benchmark/thread-mode.json");
+        output.getParentFile().mkdirs();
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output, results);
+    }
+
+    private Map<String, Object> run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:thread-mode-" + virtualThreads + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN")
+                .run()) {
+            seed(context);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient http = HttpClient.newBuilder()
+                        .cookieHandler(new CookieManager())
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .executor(clients)
+                        .build();
+                login(http, baseUrl);
+
+                drive(http, clients, baseUrl, REQUESTS / 10);
+                long start = System.nanoTime();
+                long[] latencies = drive(http, clients, baseUrl, REQUESTS);
+                double seconds = (System.nanoTime() - start) / 1e9;
+
+                Arrays.sort(latencies);
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("requests", REQUESTS);
+                result.put("concurrency", CONCURRENCY);
+                result.put("throughputPerSecond", Math.round(REQUESTS / seconds));
+                result.put("p50Millis", percentile(latencies, 0.50));
+                result.put("p99Millis", percentile(latencies, 0.99));
+                result.put("maxMillis", latencies[latencies.length - 1] / 1e6);
+                return result;
+            }
+        }
+    }
+
+    private long[] drive(HttpClient http, ExecutorService clients, String baseUrl, int requests) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<Long>> results = new ArrayList<>(requests);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATH)).GET().build();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            results.add(clients.submit(() -> {
+                try {
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                    return System.nanoTime() - start;
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        }
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            latencies[i] = results.get(i).get();
+        }
+        assertEquals(0, failures.get(), "failed requests");
+        return latencies;
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    private static void login(HttpClient http, String baseUrl) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=bench-admin&password=bench-password"))
+                .build();
+        HttpResponse<Void> response = http.send(login, HttpResponse.BodyHandlers.discarding());
+        assertEquals("/home", URI.create(response.headers().firstValue("Location").orElseThrow()).getPath());
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        Role admin = new Role();
+        admin.setName("ROLE_Admin");
+        admin = context.getBean(RoleRepository.class).save(admin);
+        User user = new User();
+        user.setUsername("bench-admin");
+        user.setPassword(context.getBean(PasswordEncoder.class).encode("bench-password"));
+        user.setRole(admin);
+        context.getBean(UserRepository.class).save(user);
+
+        List<Object[]> rows = new ArrayList<>(EMPLOYEES);
+        String[] departments = { "IT", "Sales", "HR", "Finance" };
+        String[] jobTitles = { "Software Engineer", "Sales Manager", "Recruiter", "Analyst" };
+        for (int i = 0; i < EMPLOYEES; i++) {
+            rows.add(new Object[] { "Employee " + i, "employee" + i + "@example.com", "555" + i, 30000.0 + i,
+                    "Staff", departments[i % 4], jobTitles[i % 4] });
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO employee (name, email, phone_number, salary, role, department, job_title) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+}
@@ -0,0 +1,92 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.incture.employeeManagementSystem.service.EmployeeDataVersion;
+import com.incture.employeeManagementSystem.service.EmployeeService;
+
+class EmployeeETagInterceptorTest {
+
+    @Mock
+    private EmployeeDataVersion employeeDataVersion;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private EmployeeETagInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(employeeDataVersion.etag()).thenReturn("\"start-7\"");
+    }
+
+    @Test
+    void testListAnsweredWithNotModified() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertEquals("W/\"start-7\"", response.getHeader("ETag"));
+
+        request.addHeader("If-None-Match", "W/\"start-7\"");
+        response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request, response, null));
+        assertEquals(304, response.getStatus());
+        assertEquals("Accept", response.getHeader("Vary"));
+    }
+
+    @Test
+    void testTaggedResponsesVaryOnNegotiatedHeaders() {
+        ReflectionTestUtils.setField(interceptor, "compression", true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+        request.addHeader("Accept", "application/cbor");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        // JSON, Smile and CBOR share the tag, so caches must key the representations by Accept
+        assertEquals("Accept, Accept-Encoding", response.getHeader("Vary"));
+    }
+
+    @Test
+    void testEmployeeTaggedWithVersion() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/1");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "1"));
+        request.addHeader("If-None-Match", "\"employee-1-2\"");
+        when(employeeService.getEmployeeVersion(1L)).thenReturn(Optional.of(3L));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertEquals("W/\"employee-1-3\"", response.getHeader("ETag"));
+    }
+
+    @Test
+    void testMissingEmployeeLeftToHandler() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/9");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "9"));
+        when(employeeService.getEmployeeVersion(9L)).thenReturn(Optional.empty());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertNull(response.getHeader("ETag"));
+        assertNull(response.getHeader("Vary"));
+    }
+}
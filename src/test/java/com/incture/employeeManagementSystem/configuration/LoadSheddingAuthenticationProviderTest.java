@@ -0,0 +1,76 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+
+class LoadSheddingAuthenticationProviderTest {
+
+    private LoadSheddingAuthenticationProvider provider;
+
+    private boolean saturated;
+
+    @BeforeEach
+    void setUp() {
+        provider = new LoadSheddingAuthenticationProvider();
+        provider.setUserDetailsService(username -> {
+            if (!"admin".equals(username)) {
+                throw new UsernameNotFoundException(username);
+            }
+            return User.withUsername("admin").password("{hash}secret").roles("Admin").build();
+        });
+        provider.setPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                checkSaturated();
+                return "{hash}" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                checkSaturated();
+                return encodedPassword.equals("{hash}" + rawPassword);
+            }
+        });
+    }
+
+    @Test
+    void testSaturationIsReportedForKnownAndUnknownUsers() {
+        saturated = true;
+
+        AuthenticationServiceException known = assertThrows(AuthenticationServiceException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret")));
+        // Unknown usernames still hash a password, to take as long as a wrong password
+        AuthenticationServiceException unknown = assertThrows(AuthenticationServiceException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("nobody", "secret")));
+
+        assertTrue(LoadSheddingAuthenticationProvider.isServiceBusy(known));
+        assertTrue(LoadSheddingAuthenticationProvider.isServiceBusy(unknown));
+    }
+
+    @Test
+    void testWrongCredentialsAreNotBusy() {
+        BadCredentialsException wrong = assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("nobody", "secret")));
+
+        assertFalse(LoadSheddingAuthenticationProvider.isServiceBusy(wrong));
+        assertTrue(provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret")).isAuthenticated());
+    }
+
+    private void checkSaturated() {
+        if (saturated) {
+            throw new ServiceBusyException("Too many password checks");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+class MetricsFileExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testExportWritesPrometheusText() throws Exception {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.counter("employee.imports").increment(3);
+        Path file = directory.resolve("metrics/metrics.prom");
+        MetricsFileExporter exporter = new MetricsFileExporter(registry, file, Duration.ofHours(1));
+
+        exporter.export();
+
+        assertTrue(Files.readString(file).contains("employee_imports_total 3.0"));
+        exporter.shutdown();
+    }
+}
@@ -0,0 +1,52 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+class RequestLogRateLimiterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final RequestLogRateLimiter limiter = new RequestLogRateLimiter(List.of("com.example.web"), 2, nanoTime::get);
+
+    @Test
+    void testLimitsInfoEventsPerSecond() {
+        Logger logger = context.getLogger("com.example.web.Controller");
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.ERROR));
+
+        nanoTime.addAndGet(1_000_000_000L);
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(1, limiter.getSuppressedCount());
+    }
+
+    @Test
+    void testIgnoresOtherLoggersAndDisabledLevels() {
+        Logger other = context.getLogger("com.example.dao.Repository");
+        Logger web = context.getLogger("com.example.web.Controller");
+        web.setLevel(Level.INFO);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+            assertEquals(FilterReply.NEUTRAL, decide(web, Level.DEBUG));
+            assertEquals(FilterReply.NEUTRAL, limiter.decide(null, web, Level.INFO, null, null, null));
+        }
+        assertEquals(0, limiter.getSuppressedCount());
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return limiter.decide(null, logger, level, "Getting employee with ID: {}", new Object[] { 1L }, null);
+    }
+}
@@ -0,0 +1,67 @@
+package com.incture.employeeManagementSystem.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.incture.employeeManagementSystem.entities.Employee;
+
+class WebConfigTest {
+
+    @Test
+    void testSmileSharesRepeatedStrings() throws Exception {
+        List<Employee> employees = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            employees.add(new Employee(i, "Employee " + i, "e" + i + "@example.com", "555" + i, 50000.0, "Developer", "Engineering", "Software Engineer"));
+        }
+        ObjectMapper shared = new WebConfig().smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+        ObjectMapper plain = new ObjectMapper(new SmileFactory());
+
+        byte[] compact = shared.writeValueAsBytes(employees);
+        byte[] full = plain.writeValueAsBytes(employees);
+
+        assertTrue(compact.length < full.length * 0.8, compact.length + " bytes, " + full.length + " without shared strings");
+        assertEquals(100, plain.readTree(compact).size());
+    }
+
+    @Test
+    void testChangeFeedIsNotTagged() {
+        WebConfig config = new WebConfig();
+        ReflectionTestUtils.setField(config, "employeeETagInterceptor", mock(EmployeeETagInterceptor.class));
+        ExposedInterceptorRegistry registry = new ExposedInterceptorRegistry();
+        config.addInterceptors(registry);
+        MappedInterceptor interceptor = (MappedInterceptor) registry.getInterceptors().get(0);
+
+        assertTrue(interceptor.matches(get("/employees/42")));
+        assertFalse(interceptor.matches(get("/employees/changes")));
+        assertFalse(interceptor.matches(get("/employees/report/jobs/1")));
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        ServletRequestPathUtils.parseAndCache(request);
+        return request;
+    }
+
+    private static final class ExposedInterceptorRegistry extends InterceptorRegistry {
+
+        @Override
+        protected List<Object> getInterceptors() {
+            return super.getInterceptors();
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.incture.employeeManagementSystem.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
 import com.incture.employeeManagementSystem.controller.EmployeeController;
 import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.EmployeeTombstone;
 import com.incture.employeeManagementSystem.service.EmployeeService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,9 +20,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 class EmployeeControllerTest {
 
@@ -86,4 +94,49 @@ class EmployeeControllerTest {
 
         assertEquals("Employee deleted successfully!", result);
     }
+
+    @Test
+    void testStreamReport() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            employees.forEach(consumer);
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+        when(employeeService.getExportWatermark(null)).thenReturn(Instant.parse("2024-05-01T02:00:00Z"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        employeeController.streamReport(false, response);
+
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith("\"1\",\"John Doe\""));
+        assertTrue(response.getHeader("Content-Disposition").contains("employees_report.csv"));
+        assertEquals("2024-05-01T02:00:00Z", response.getHeader("X-Watermark"));
+    }
+
+    @Test
+    void testStreamReportSince() throws Exception {
+        Instant since = Instant.parse("2024-05-01T02:00:00Z");
+        Instant until = Instant.parse("2024-05-02T02:00:00Z");
+        emp1.setLastModified(since.plusSeconds(60));
+        when(employeeService.parseWatermark("2024-05-01T02:00:00Z")).thenReturn(since);
+        when(employeeService.getExportWatermark(since)).thenReturn(until);
+        doAnswer(invocation -> {
+            Consumer<Employee> changed = invocation.getArgument(2);
+            Consumer<EmployeeTombstone> deleted = invocation.getArgument(3);
+            changed.accept(emp1);
+            deleted.accept(new EmployeeTombstone(7L, since.plusSeconds(120)));
+            return null;
+        }).when(employeeService).streamEmployeeChanges(eq(since), eq(until), any(), any());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        employeeController.streamReportSince("2024-05-01T02:00:00Z", false, response);
+
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].startsWith("\"1\",\"John Doe\""));
+        assertTrue(lines[1].endsWith("\"2024-05-01T02:01:00Z\",\"false\""));
+        assertEquals("\"7\",,,,,,,,\"2024-05-01T02:02:00Z\",\"true\"", lines[2]);
+        assertEquals("2024-05-02T02:00:00Z", response.getHeader("X-Watermark"));
+    }
 }
@@ -0,0 +1,41 @@
+package com.incture.employeeManagementSystem.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.InvalidFieldSelectionException;
+
+class EmployeeFieldsTest {
+
+    @Test
+    void testParseKeepsOrderAndAddsId() {
+        EmployeeFields fields = EmployeeFields.parse(" department,name ,department");
+
+        assertEquals(List.of("id", "department", "name"), fields.getAttributes());
+        assertEquals(List.of("id"), EmployeeFields.parse("").getAttributes());
+    }
+
+    @Test
+    void testRejectsUnknownFields() {
+        assertThrows(InvalidFieldSelectionException.class, () -> EmployeeFields.parse("name,password"));
+        assertThrows(InvalidFieldSelectionException.class, () -> EmployeeFields.parse("name,,email"));
+    }
+
+    @Test
+    void testProject() {
+        Employee employee = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", 50000.0, "Developer", "IT", "Software Engineer");
+
+        Map<String, Object> values = EmployeeFields.parse("salary,jobTitle").project(employee);
+
+        assertEquals(List.of("id", "salary", "jobTitle"), List.copyOf(values.keySet()));
+        assertEquals(1L, values.get("id"));
+        assertEquals(50000.0, values.get("salary"));
+        assertEquals("Software Engineer", values.get("jobTitle"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.incture.employeeManagementSystem.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+
+/**
+ * Checks on the embedded H2 database that the declared indexes exist, that exact and prefix
+ * filters seek the (department, job_title, salary) index while contains filters cannot, and that
+ * delta exports seek the last_modified index.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.incture.employeeManagementSystem.dao.EmployeeRepositoryQueryPlanTest$RecordingInspector")
+class EmployeeRepositoryQueryPlanTest {
+
+    private static final String FILTER_INDEX = "IDX_EMPLOYEE_DEPARTMENT_JOB_TITLE_SALARY";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.saveAll(List.of(
+                new Employee(null, "John Doe", "john@example.com", null, 50000.0, "Developer", "IT", "Software Engineer"),
+                new Employee(null, "Jane Doe", "jane@example.com", null, 60000.0, "Manager", "IT Support", "Team Lead"),
+                new Employee(null, "Max Roe", "max@example.com", null, 40000.0, "Analyst", "Finance", "Analyst")));
+        employeeRepository.flush();
+        RecordingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void testIndexesAreDeclared() {
+        // Hibernate declares a unique index as a unique constraint, which is backed by an index
+        List<String> unique = jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_TYPE FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS WHERE CONSTRAINT_NAME = 'UK_EMPLOYEE_EMAIL'",
+                String.class);
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS WHERE INDEX_NAME = ? ORDER BY ORDINAL_POSITION",
+                String.class, FILTER_INDEX);
+
+        assertEquals(List.of("UNIQUE"), unique);
+        assertEquals(List.of("DEPARTMENT", "JOB_TITLE", "SALARY"), columns);
+        assertThrows(DataIntegrityViolationException.class, () -> employeeRepository.saveAndFlush(
+                new Employee(null, "John Roe", "john@example.com", null, null, "Developer", "IT", "Intern")));
+    }
+
+    @Test
+    void testExactMatchSeeksIndex() {
+        List<Employee> employees = employeeRepository.findMatching("IT", "Software Engineer", 45000.0, MatchMode.EXACT);
+
+        assertEquals(1, employees.size());
+        String plan = explainLastQuery("IT", "Software Engineer", 45000.0);
+        assertTrue(plan.contains(FILTER_INDEX), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void testPrefixMatchSeeksIndex() {
+        List<Employee> employees = employeeRepository.findMatching("IT", null, null, MatchMode.PREFIX);
+
+        assertEquals(2, employees.size());
+        String plan = explainLastQuery("IT%");
+        assertTrue(plan.contains(FILTER_INDEX), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void testContainsMatchCannotUseIndex() {
+        List<Employee> employees = employeeRepository.findMatching("Support", null, null, MatchMode.CONTAINS);
+
+        assertEquals(1, employees.size());
+        String plan = explainLastQuery("%Support%");
+        assertFalse(plan.contains(FILTER_INDEX), plan);
+    }
+
+    @Test
+    void testModifiedBetweenSeeksIndex() {
+        // The column holds microseconds, so a bound with nanoseconds could round the row stamped with it out of range
+        Instant since = Instant.now().minusSeconds(60).truncatedTo(ChronoUnit.MICROS);
+        Employee max = employeeRepository.findMatching("Finance", null, null, MatchMode.EXACT).get(0);
+        Instant later = Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MICROS);
+        employeeRepository.updateAttribute(List.of(max.getId()), "salary", ":value", 45000.0, later);
+
+        List<Long> ids;
+        try (Stream<Employee> employees = employeeRepository.streamModifiedBetween(since, later)) {
+            ids = employees.map(Employee::getId).toList();
+        }
+
+        // Every row was stamped on insert; the bulk update moved the last one to the end
+        assertEquals(3, ids.size());
+        assertEquals(max.getId(), ids.get(2));
+        String plan = explainLastQuery(since, later);
+        assertTrue(plan.contains("IDX_EMPLOYEE_LAST_MODIFIED"), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void testPrefixMatchTreatsWildcardsLiterally() {
+        assertTrue(employeeRepository.findMatching("I_", null, null, MatchMode.PREFIX).isEmpty());
+        assertTrue(employeeRepository.findMatching("%", null, null, MatchMode.PREFIX).isEmpty());
+    }
+
+    /**
+     * Runs EXPLAIN on the last SQL statement Hibernate issued, binding the same parameters.
+     */
+    private String explainLastQuery(Object... parameters) {
+        List<String> statements = RecordingInspector.STATEMENTS;
+        String sql = statements.get(statements.size() - 1);
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+        return plan.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Records the SQL of every statement prepared by Hibernate.
+     */
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
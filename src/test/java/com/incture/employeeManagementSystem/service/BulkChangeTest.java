@@ -0,0 +1,42 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.exception.InvalidBulkUpdateException;
+
+class BulkChangeTest {
+
+    @Test
+    void testSalaryRevision() {
+        BulkChange change = BulkChange.of("salary", "multiply", 1.05);
+        Employee employee = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", 50000.0, "Developer", "IT", "Software Engineer");
+
+        change.applyTo(employee);
+
+        assertEquals("e.salary * :value", change.expression());
+        assertEquals(52500.0, employee.getSalary(), 0.001);
+    }
+
+    @Test
+    void testSetJobTitle() {
+        BulkChange change = BulkChange.of("jobTitle", "SET", "Engineer");
+        Employee employee = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", 50000.0, "Developer", "IT", "Software Engineer");
+
+        change.applyTo(employee);
+
+        assertEquals(":value", change.expression());
+        assertEquals("Engineer", employee.getJobTitle());
+    }
+
+    @Test
+    void testRejectsUnsupportedChanges() {
+        assertThrows(InvalidBulkUpdateException.class, () -> BulkChange.of("email", "set", "x@y.com"));
+        assertThrows(InvalidBulkUpdateException.class, () -> BulkChange.of("department", "multiply", 2));
+        assertThrows(InvalidBulkUpdateException.class, () -> BulkChange.of("salary", "add", "ten"));
+        assertThrows(InvalidBulkUpdateException.class, () -> BulkChange.of("salary", null, 1));
+    }
+}
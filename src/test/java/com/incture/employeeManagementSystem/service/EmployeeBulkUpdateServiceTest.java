@@ -0,0 +1,89 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.BulkUpdateJob;
+import com.incture.employeeManagementSystem.entities.BulkUpdateRequest;
+import com.incture.employeeManagementSystem.entities.Employee;
+
+/**
+ * Runs bulk updates against the embedded H2 database and checks the published changes against the rows.
+ */
+@DataJpaTest(properties = "employee.bulk-update.chunk-size=2")
+@Import({ EmployeeBulkUpdateService.class, EmployeeBulkUpdateServiceTest.RecordingListener.class })
+// The job commits its chunks on its own thread, so the rows must be committed first
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeBulkUpdateServiceTest {
+
+    @Autowired
+    private EmployeeBulkUpdateService bulkUpdateService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testPublishedChangesMatchTheRows() throws InterruptedException {
+        employeeRepository.saveAll(List.of(
+                new Employee(null, "John Doe", "john@example.com", null, 50000.0, "Developer", "IT", "Engineer"),
+                new Employee(null, "Jane Doe", "jane@example.com", null, 60000.0, "Developer", "IT", "Engineer"),
+                new Employee(null, "Max Roe", "max@example.com", null, 40000.0, "Analyst", "Finance", "Analyst")));
+        BulkUpdateRequest request = new BulkUpdateRequest();
+        request.setDepartment("IT");
+        request.setField("salary");
+        request.setOperation("multiply");
+        request.setValue(1.5);
+
+        BulkUpdateJob job = bulkUpdateService.submit(request);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (job.getFinishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(BulkUpdateJob.Status.COMPLETED, job.getStatus());
+        List<EmployeeChange> changes = listener.events.stream().flatMap(event -> event.getChanges().stream()).toList();
+        assertEquals(2, changes.size());
+        for (EmployeeChange change : changes) {
+            Employee row = employeeRepository.findById(change.getId()).orElseThrow();
+            Employee after = change.getAfter();
+            assertEquals(change.getBefore().getVersion() + 1, after.getVersion());
+            assertEquals(row.getVersion(), after.getVersion());
+            assertEquals(row.getSalary(), after.getSalary());
+            // Stamped at the precision of the column, so the snapshot and the watermark comparisons agree with the row
+            assertEquals(row.getLastModified(), after.getLastModified());
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingListener {
+
+        private final List<EmployeeChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onEmployeeChange(EmployeeChangeEvent event) {
+            events.add(event);
+        }
+    }
+}
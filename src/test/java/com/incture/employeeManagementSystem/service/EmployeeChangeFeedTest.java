@@ -0,0 +1,194 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incture.employeeManagementSystem.dao.EmployeeChangeRecordRepository;
+import com.incture.employeeManagementSystem.dao.EmployeeChangeSequenceRepository;
+import com.incture.employeeManagementSystem.entities.ChangeFeedEvent;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.EmployeeChangeRecord;
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+
+class EmployeeChangeFeedTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EmployeeChangeRecordRepository changeRecordRepository;
+
+    @Mock
+    private EmployeeChangeSequenceRepository changeSequenceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private EmployeeChangeFeed changeFeed;
+
+    /** The row of the sequence counter. */
+    private final AtomicLong counter = new AtomicLong(10);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(changeFeed, "bufferSize", 4);
+        ReflectionTestUtils.setField(changeFeed, "retainedChanges", 1000L);
+        when(changeSequenceRepository.findLastSequence()).thenAnswer(invocation -> Optional.of(counter.get()));
+        when(changeSequenceRepository.reserve(anyLong())).thenAnswer(invocation -> counter.addAndGet(invocation.getArgument(0)));
+        changeFeed.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        changeFeed.shutdown();
+    }
+
+    @Test
+    void testSequencesContinueAndChangesArePersisted() throws InterruptedException {
+        Employee created = new Employee(1L, "John Doe", "john@example.com", null, 50000.0, "Developer", "IT", "Engineer");
+        changeFeed.onEmployeeChange(new EmployeeChangeEvent(List.of(
+                EmployeeChange.created(created), EmployeeChange.deleted(2L, null))));
+        // Numbered and written by the background writer after the listener returned, in one batch or more
+        awaitSequence(12);
+
+        List<ChangeFeedEvent> events = changeFeed.readAfter(10, 100);
+
+        assertEquals(12, changeFeed.getLastSequence());
+        assertEquals(List.of(11L, 12L), events.stream().map(ChangeFeedEvent::getSequence).toList());
+        assertEquals("CREATED", events.get(0).getType());
+        assertEquals("John Doe", events.get(0).getEmployee().getName());
+        assertEquals("DELETED", events.get(1).getType());
+        assertNull(events.get(1).getEmployee());
+        assertTrue(changeFeed.readAfter(12, 100).isEmpty());
+
+        List<Object[]> rows = writtenRows();
+        assertEquals(2, rows.size());
+        assertEquals(11L, rows.get(0)[0]);
+        assertEquals(2L, rows.get(1)[2]);
+        assertNull(rows.get(1)[3]);
+    }
+
+    @Test
+    void testCatchesUpFromTableBeyondRing() throws InterruptedException {
+        for (long id = 1; id <= 6; id++) {
+            changeFeed.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(id, null)));
+            // One at a time, as the writer queue holds no more changes than the ring
+            awaitSequence(10 + id);
+        }
+        EmployeeChangeRecord record = new EmployeeChangeRecord();
+        record.setSequence(11L);
+        record.setType("UPDATED");
+        record.setEmployeeId(1L);
+        record.setPayload("{\"id\":1,\"name\":\"John Doe\"}");
+        record.setChangedAt(Instant.now());
+        when(changeRecordRepository.findBySequenceGreaterThanOrderBySequence(eq(10L), eq(Limit.of(100))))
+                .thenReturn(List.of(record));
+
+        List<ChangeFeedEvent> fromTable = changeFeed.readAfter(10, 100);
+        // Sequence 12 is neither in the table nor in the ring, which holds 13 to 16
+        List<ChangeFeedEvent> fromRing = changeFeed.readAfter(11, 100);
+
+        assertEquals(1, fromTable.size());
+        assertEquals("John Doe", fromTable.get(0).getEmployee().getName());
+        assertEquals(List.of(13L, 14L, 15L, 16L), fromRing.stream().map(ChangeFeedEvent::getSequence).toList());
+        assertEquals(List.of(15L, 16L), changeFeed.readAfter(14, 100).stream().map(ChangeFeedEvent::getSequence).toList());
+    }
+
+    @Test
+    void testFailedWriteHandsOutNoNumberAndLeavesAGap() throws InterruptedException {
+        when(transactionManager.getTransaction(any()))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"))
+                .thenReturn(null);
+
+        changeFeed.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(1L, null)));
+
+        verify(transactionManager, timeout(5000)).getTransaction(any());
+        assertEquals(10, changeFeed.getLastSequence());
+        assertTrue(changeFeed.readAfter(10, 100).isEmpty());
+
+        changeFeed.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(2L, null)));
+        awaitSequence(12);
+
+        // 11 stands for the lost change: it is skipped, so a subscriber at 10 is sent a reset
+        assertEquals(List.of(12L), changeFeed.readAfter(10, 100).stream().map(ChangeFeedEvent::getSequence).toList());
+        assertEquals(List.of(12L), writtenRows().stream().map(row -> row[0]).toList());
+    }
+
+    @Test
+    void testNumbersAreNeverReusedAcrossInstancesOrRestarts() throws InterruptedException {
+        changeFeed.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(1L, null)));
+        awaitSequence(11);
+        // Another instance sharing the database writes 12 to 16
+        counter.addAndGet(5);
+        changeFeed.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(2L, null)));
+        awaitSequence(17);
+
+        changeFeed.shutdown();
+        changeFeed.init();
+        assertEquals(17, changeFeed.getLastSequence());
+        changeFeed.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(3L, null)));
+        awaitSequence(18);
+
+        assertEquals(List.of(11L, 17L, 18L), writtenRows().stream().map(row -> row[0]).toList());
+        assertEquals(List.of(18L), changeFeed.readAfter(17, 100).stream().map(ChangeFeedEvent::getSequence).toList());
+    }
+
+    @Test
+    void testSubscribersAreLimited() {
+        ReflectionTestUtils.setField(changeFeed, "maxSubscribers", 0);
+
+        assertThrows(ServiceBusyException.class, () -> changeFeed.subscribe(null));
+        assertEquals(0, changeFeed.getSubscriberCount());
+    }
+
+    private void awaitSequence(long sequence) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (changeFeed.getLastSequence() < sequence) {
+            assertTrue(System.nanoTime() < deadline, "Sequence " + sequence + " was not written");
+            Thread.sleep(10);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> writtenRows() {
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), batches.capture());
+        return batches.getAllValues().stream().flatMap(List::stream).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.mockito.Mockito.inOrder;
+
+import org.h2.Driver;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks that the ETag counter is incremented only after the structures serving tagged responses
+ * have applied a change, with and without a transaction.
+ */
+@SpringJUnitConfig(EmployeeDataVersionTest.Config.class)
+class EmployeeDataVersionTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Declared first, so only the listener order can make it run last
+    @MockBean
+    private EmployeeDataVersion employeeDataVersion;
+
+    @MockBean
+    private EmployeeCache employeeCache;
+
+    @MockBean
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @MockBean
+    private HeadcountAggregates headcountAggregates;
+
+    @MockBean
+    private SalaryAnalytics salaryAnalytics;
+
+    @Test
+    void testVersionIsCountedAfterCommittedChangeIsApplied() {
+        EmployeeChangeEvent event = EmployeeChangeEvent.of(EmployeeChange.deleted(1L, null));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> eventPublisher.publishEvent(event));
+
+        verifyVersionCountedLast(event);
+    }
+
+    @Test
+    void testVersionIsCountedAfterChangeWithoutTransactionIsApplied() {
+        EmployeeChangeEvent event = EmployeeChangeEvent.of(EmployeeChange.deleted(1L, null));
+
+        eventPublisher.publishEvent(event);
+
+        verifyVersionCountedLast(event);
+    }
+
+    private void verifyVersionCountedLast(EmployeeChangeEvent event) {
+        InOrder cache = inOrder(employeeCache, employeeDataVersion);
+        cache.verify(employeeCache).onEmployeeChange(event);
+        cache.verify(employeeDataVersion).onEmployeeChange(event);
+        InOrder index = inOrder(employeeSearchIndex, employeeDataVersion);
+        index.verify(employeeSearchIndex).onEmployeeChange(event);
+        index.verify(employeeDataVersion).onEmployeeChange(event);
+        InOrder aggregates = inOrder(headcountAggregates, employeeDataVersion);
+        aggregates.verify(headcountAggregates).onEmployeeChange(event);
+        aggregates.verify(employeeDataVersion).onEmployeeChange(event);
+        InOrder analytics = inOrder(salaryAnalytics, employeeDataVersion);
+        analytics.verify(salaryAnalytics).onEmployeeChange(event);
+        analytics.verify(employeeDataVersion).onEmployeeChange(event);
+    }
+
+    @Configuration
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:data-version"));
+        }
+    }
+}
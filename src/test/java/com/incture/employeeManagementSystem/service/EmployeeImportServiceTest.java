@@ -0,0 +1,178 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.ImportReport;
+import com.incture.employeeManagementSystem.service.EmployeeImportService.RawRow;
+import com.incture.employeeManagementSystem.service.EmployeeImportService.ValidatedRow;
+
+/**
+ * Validates rows in isolation, and imports into the embedded H2 database to check the batched
+ * inserts, the generated IDs and the row by row retry of a failed batch.
+ */
+@DataJpaTest(properties = "employee.import.batch-size=2")
+@Import({ EmployeeImportService.class, EmployeeImportServiceTest.RecordingListener.class })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+// Each chunk is committed by the writer thread, so the test must not hold a transaction of its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeImportServiceTest {
+
+    private static final String HEADER = "ID,Name,Email,Phone Number,Salary,Role,Department,Job Title\n";
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener.events.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    void testValidateReportRow() {
+        ValidatedRow row = EmployeeImportService.validate(new RawRow(2, new String[] {
+                "7", "John Doe", "john.doe@example.com", "1234567890", "50000.0", "Developer", "IT", "Software Engineer" }));
+
+        assertNull(row.getError());
+        Employee employee = row.getEmployee();
+        assertNull(employee.getId());
+        assertEquals("John Doe", employee.getName());
+        assertEquals(50000.0, employee.getSalary());
+        assertEquals("Software Engineer", employee.getJobTitle());
+    }
+
+    @Test
+    void testValidateAcceptsMissingValuesFromReport() {
+        ValidatedRow row = EmployeeImportService.validate(new RawRow(3, new String[] {
+                "", "Jane Doe", "", "", "null", "", "HR", "" }));
+
+        assertNull(row.getError());
+        assertNull(row.getEmployee().getSalary());
+        assertNull(row.getEmployee().getEmail());
+    }
+
+    @Test
+    void testValidateRejectsInvalidRows() {
+        assertEquals("Name is required", EmployeeImportService.validate(new RawRow(4, new String[] {
+                "", " ", "a@b.com", "", "1", "", "", "" })).getError());
+        assertEquals("Invalid email: nobody", EmployeeImportService.validate(new RawRow(5, new String[] {
+                "", "Jo", "nobody", "", "1", "", "", "" })).getError());
+        assertEquals("Invalid salary: -5", EmployeeImportService.validate(new RawRow(6, new String[] {
+                "", "Jo", "", "", "-5", "", "", "" })).getError());
+        assertEquals("Expected 8 columns but found 2", EmployeeImportService.validate(new RawRow(7, new String[] {
+                "Jo", "IT" })).getError());
+    }
+
+    @Test
+    void testImportInsertsBatchesAndPublishesGeneratedIds() throws IOException {
+        ImportReport report = importService.importCsv(input(HEADER
+                + ",Ann,ann@example.com,,41000,Developer,IT,Engineer\n"
+                + ",Ben,ben@example.com,,42000,Developer,IT,Engineer\n"
+                + ",Cid,cid@example.com,,43000,Analyst,Finance,Analyst\n"));
+
+        assertEquals(3, report.getTotalRows());
+        assertEquals(3, report.getImportedRows());
+        assertEquals(0, report.getFailedRows());
+        // One event per batch of two rows
+        assertEquals(2, listener.events.size());
+        List<EmployeeChange> changes = changes();
+        assertEquals(List.of("Ann", "Ben", "Cid"), changes.stream().map(change -> change.getAfter().getName()).toList());
+        for (EmployeeChange change : changes) {
+            Employee row = employeeRepository.findById(change.getId()).orElseThrow();
+            Employee after = change.getAfter();
+            assertEquals(row.getId(), after.getId());
+            assertEquals(row.getEmail(), after.getEmail());
+            assertEquals(row.getSalary(), after.getSalary());
+            assertEquals(0L, after.getVersion());
+            assertEquals(row.getVersion(), after.getVersion());
+            assertEquals(row.getLastModified(), after.getLastModified());
+        }
+    }
+
+    @Test
+    void testFailedBatchIsRetriedRowByRow() throws IOException {
+        employeeRepository.save(new Employee(null, "Dan", "dan@example.com", null, 40000.0, "Developer", "IT", "Engineer"));
+
+        // Rows 2 and 3 are one batch, rows 4 and 5 the next; row 3 and row 5 reuse an email
+        ImportReport report = importService.importCsv(input(HEADER
+                + ",Ann,ann@example.com,,41000,Developer,IT,Engineer\n"
+                + ",Dan Two,dan@example.com,,42000,Developer,IT,Engineer\n"
+                + ",Cid,cid@example.com,,43000,Analyst,Finance,Analyst\n"
+                + ",Cid Two,cid@example.com,,44000,Analyst,Finance,Analyst\n"));
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(2, report.getImportedRows());
+        assertEquals(List.of(3L, 5L), report.getErrors().stream().map(ImportReport.RowError::getRow).toList());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Insert failed: "), report.getErrors().get(0).getMessage());
+        assertEquals(3, employeeRepository.count());
+        // Rolled back batches publish nothing; each retried row that was inserted publishes its own change
+        assertEquals(List.of("Ann", "Cid"), changes().stream().map(change -> change.getAfter().getName()).toList());
+        for (EmployeeChange change : changes()) {
+            assertEquals(change.getAfter().getEmail(), employeeRepository.findById(change.getId()).orElseThrow().getEmail());
+        }
+    }
+
+    @Test
+    void testJsonElementsThatAreNotObjectsAreRejectedRows() throws IOException {
+        ImportReport report = importService.importJson(input("[{\"name\": \"Ann\", \"email\": \"ann@example.com\"}, 1,"
+                + " [{\"name\": \"Nested\"}], \"Ben\", {\"name\": \"Cid\", \"department\": \"Finance\"}]"));
+
+        assertEquals(5, report.getTotalRows());
+        assertEquals(2, report.getImportedRows());
+        assertEquals(List.of(2L, 3L, 4L), report.getErrors().stream().map(ImportReport.RowError::getRow).toList());
+        assertEquals("Expected an employee object but found 1", report.getErrors().get(0).getMessage());
+        assertEquals(List.of("Ann", "Cid"), changes().stream().map(change -> change.getAfter().getName()).toList());
+    }
+
+    private List<EmployeeChange> changes() {
+        return listener.events.stream().flatMap(event -> event.getChanges().stream()).toList();
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TestConfiguration
+    static class RecordingListener {
+
+        private final List<EmployeeChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onEmployeeChange(EmployeeChangeEvent event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.Employee;
+
+class EmployeeSearchIndexTest {
+
+    private EmployeeSearchIndex index;
+
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        when(employeeRepository.streamSearchAttributes()).thenReturn(Stream.of(
+                new Object[] { 1L, "IT", "Software Engineer", 50000.0 },
+                new Object[] { 2L, "Sales", "Sales Manager", 60000.0 },
+                new Object[] { 3L, "IT Support", "Support Engineer", 40000.0 }));
+
+        index = new EmployeeSearchIndex();
+        ReflectionTestUtils.setField(index, "employeeRepository", employeeRepository);
+        ReflectionTestUtils.setField(index, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild();
+    }
+
+    @Test
+    void testSubstringSearch() {
+        assertArrayEquals(new long[] { 1L, 3L }, index.search(null, "engineer", null));
+        assertArrayEquals(new long[] { 3L }, index.search("it sup", "engineer", null));
+        assertArrayEquals(new long[] { 1L }, index.search("IT", null, 45000.0));
+        assertArrayEquals(new long[] { 2L }, index.search("les", null, null));
+        assertArrayEquals(new long[0], index.search("marketing", null, null));
+    }
+
+    @Test
+    void testIndexFollowsChanges() {
+        Employee before = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", 50000.0, "Developer", "IT", "Software Engineer");
+        Employee after = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", 50000.0, "Developer", "Marketing", "Analyst");
+        index.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.updated(before, after)));
+        assertArrayEquals(new long[] { 3L }, index.search("it", null, null));
+        assertArrayEquals(new long[] { 1L }, index.search("market", null, null));
+
+        index.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(3L, null)));
+        assertArrayEquals(new long[0], index.search("it", null, null));
+    }
+
+    @Test
+    void testSupports() {
+        assertTrue(index.supports("IT", null));
+        assertFalse(index.supports(null, null));
+        assertFalse(index.supports("I%T", null));
+    }
+
+    @Test
+    void testRebuildDoesNotBlockOrLoseChanges() {
+        Employee before = new Employee(2L, "Jane Doe", "jane.doe@example.com", null, 60000.0, "Manager", "Sales", "Sales Manager");
+        Employee after = new Employee(2L, "Jane Doe", "jane.doe@example.com", null, 60000.0, "Manager", "Marketing", "Sales Manager");
+        // The scan reads employee 2 before it changes; the listener of the change runs while the scan is still going
+        when(employeeRepository.streamSearchAttributes()).thenReturn(Stream.of(
+                new Object[] { 1L, "IT", "Software Engineer", 50000.0 },
+                new Object[] { 2L, "Sales", "Sales Manager", 60000.0 },
+                new Object[] { 3L, "IT Support", "Support Engineer", 40000.0 })
+                .peek(row -> {
+                    if (row[0].equals(3L)) {
+                        CompletableFuture.runAsync(() -> index.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.updated(before, after))))
+                                .orTimeout(5, TimeUnit.SECONDS)
+                                .join();
+                    }
+                }));
+
+        index.rebuild();
+
+        assertArrayEquals(new long[] { 2L }, index.search("market", null, null));
+        assertArrayEquals(new long[0], index.search("sales", null, null));
+        assertArrayEquals(new long[] { 1L, 3L }, index.search("it", null, null));
+    }
+}
@@ -3,8 +3,11 @@ package com.incture.employeeManagementSystem.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -13,9 +16,25 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.dao.EmployeeSort;
+import com.incture.employeeManagementSystem.dao.EmployeeTombstoneRepository;
+import com.incture.employeeManagementSystem.dao.MatchMode;
 import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.EmployeePage;
+import com.incture.employeeManagementSystem.entities.EmployeePatch;
+import com.incture.employeeManagementSystem.entities.EmployeeTombstone;
+import com.incture.employeeManagementSystem.exception.EmployeeNotFoundException;
+import com.incture.employeeManagementSystem.exception.EmployeeVersionConflictException;
+import com.incture.employeeManagementSystem.exception.InvalidFilterException;
+import com.incture.employeeManagementSystem.exception.InvalidPageRequestException;
+import com.incture.employeeManagementSystem.exception.InvalidPatchException;
+import com.incture.employeeManagementSystem.exception.WatermarkExpiredException;
+
+import jakarta.persistence.EntityManager;
 
 
 
@@ -24,6 +43,21 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Mock
+    private EmployeeTombstoneRepository employeeTombstoneRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private EmployeeCache employeeCache = new EmployeeCache(100, Duration.ofMinutes(1), Duration.ofSeconds(30));
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -104,19 +138,155 @@ class EmployeeServiceTest {
 
     @Test
     void testDeleteEmployee() {
-        // Mock the repository to simulate an existing employee
-        when(employeeRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(1L);
+        // Mock the repository to simulate an existing employee that is not cached
+        emp1.setVersion(0L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(emp1));
+        when(employeeRepository.deleteByIdAndVersion(1L, 0L)).thenReturn(1);
 
         // Call the service method
         employeeService.deleteEmployee(1L);
 
-        // Verify that the deleteById method was called exactly once
-        verify(employeeRepository, times(1)).deleteById(1L);
+        // Verify that the employee was deleted with a single statement checking its version
+        verify(employeeRepository, times(1)).deleteByIdAndVersion(1L, 0L);
+        verify(entityManager).persist(argThat(tombstone -> tombstone instanceof EmployeeTombstone t && t.getEmployeeId() == 1L));
+        verify(eventPublisher).publishEvent(any(EmployeeChangeEvent.class));
 
         // If employee does not exist, ensure exception is thrown
-        when(employeeRepository.existsById(2L)).thenReturn(false);
+        when(employeeRepository.findById(2L)).thenReturn(Optional.empty());
         assertThrows(NoSuchElementException.class, () -> employeeService.deleteEmployee(2L));
     }
 
+    @Test
+    void testDeleteCachedEmployee() {
+        emp1.setVersion(4L);
+        employeeCache.get(1L, id -> Optional.of(emp1));
+        when(employeeRepository.deleteByIdAndVersion(1L, 4L)).thenReturn(1);
+
+        employeeService.deleteEmployee(1L);
+
+        // The cached state is enough for the change event, so the row is not read
+        verify(employeeRepository, never()).findById(1L);
+    }
+
+    @Test
+    void testPatchCachedEmployee() {
+        emp1.setVersion(2L);
+        employeeCache.get(1L, id -> Optional.of(emp1));
+        when(employeeRepository.updateAttributes(eq(1L), eq(2L), anyMap(), any(Instant.class))).thenReturn(1);
+
+        Employee result = employeeService.patchEmployee(1L, patch(2L, "salary", 52000));
+
+        assertEquals(52000.0, result.getSalary());
+        assertEquals("John Doe", result.getName());
+        assertEquals(3L, result.getVersion());
+        verify(employeeRepository).updateAttributes(1L, 2L, Map.of("salary", 52000.0), result.getLastModified());
+        verify(employeeRepository, never()).findById(1L);
+    }
+
+    @Test
+    void testPatchRejectsOutdatedVersion() {
+        emp1.setVersion(3L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(emp1));
+
+        assertThrows(EmployeeVersionConflictException.class, () -> employeeService.patchEmployee(1L, patch(2L, "salary", 52000)));
+        verify(employeeRepository, never()).updateAttributes(anyLong(), anyLong(), anyMap(), any(Instant.class));
+
+        // The row changed between the read and the update
+        when(employeeRepository.updateAttributes(eq(1L), eq(3L), anyMap(), any(Instant.class))).thenReturn(0);
+        assertThrows(EmployeeVersionConflictException.class, () -> employeeService.patchEmployee(1L, patch(3L, "name", "John Smith")));
+
+        assertThrows(InvalidPatchException.class, () -> employeeService.patchEmployee(1L, patch(3L, "id", 5)));
+        assertThrows(InvalidPatchException.class, () -> employeeService.patchEmployee(1L, patch(null, "name", "John Smith")));
+    }
+
+    @Test
+    void testExportWatermark() {
+        Instant now = Instant.now();
+
+        Instant full = employeeService.getExportWatermark(null);
+        Instant recent = now.minusSeconds(2);
+
+        // The watermark lags behind the clock, but never moves back
+        assertTrue(full.isBefore(now.minusSeconds(9)) && full.isAfter(now.minusSeconds(20)));
+        assertEquals(recent, employeeService.getExportWatermark(recent));
+        assertEquals(now.minus(Duration.ofDays(1)), employeeService.parseWatermark(now.minus(Duration.ofDays(1)).toString()));
+        assertThrows(WatermarkExpiredException.class, () -> employeeService.getExportWatermark(now.minus(Duration.ofDays(31))));
+        assertThrows(InvalidFilterException.class, () -> employeeService.parseWatermark("yesterday"));
+    }
+
+    private static EmployeePatch patch(Long version, String attribute, Object value) {
+        EmployeePatch patch = new EmployeePatch();
+        patch.setVersion(version);
+        patch.setChange(attribute, value);
+        return patch;
+    }
+
+    @Test
+    void testGetEmployeePage() {
+        List<EmployeeSort> sort = EmployeeSort.parse("department");
+        when(employeeRepository.findPageAfter(isNull(), isNull(), isNull(), eq(MatchMode.CONTAINS), anyList(), isNull(), eq(2)))
+                .thenReturn(employees);
+
+        EmployeePage firstPage = employeeService.getEmployeePage(null, null, null, null, "department", null, 1);
+        assertEquals(1, firstPage.getContent().size());
+        assertTrue(firstPage.isHasNext());
+
+        // The cursor resumes after the last row using the same sort keys
+        EmployeeCursor cursor = EmployeeCursor.decode(firstPage.getNextCursor());
+        assertEquals(EmployeeSort.format(sort), EmployeeSort.format(cursor.getSort()));
+        assertArrayEquals(new Object[] { "IT", 1L }, cursor.getAfter());
+
+        when(employeeRepository.findPageAfter(isNull(), isNull(), isNull(), eq(MatchMode.CONTAINS), anyList(), any(Object[].class), eq(2)))
+                .thenReturn(List.of(emp2));
+        EmployeePage lastPage = employeeService.getEmployeePage(null, null, null, null, null, firstPage.getNextCursor(), 1);
+        assertFalse(lastPage.isHasNext());
+        assertNull(lastPage.getNextCursor());
+
+        assertThrows(InvalidPageRequestException.class, () -> employeeService.getEmployeePage(null, null, null, null, "phoneNumber", null, 1));
+        assertThrows(InvalidPageRequestException.class, () -> employeeService.getEmployeePage(null, null, null, null, null, "not-a-cursor", 1));
+    }
+
+    @Test
+    void testFilterEmployeesUsesSearchIndex() {
+        when(employeeSearchIndex.supports("it", null)).thenReturn(true);
+        when(employeeSearchIndex.search("it", null, 40000.0)).thenReturn(new long[] { 1L });
+        when(employeeRepository.findAllById(List.of(1L))).thenReturn(List.of(emp1));
+
+        List<Employee> result = employeeService.filterEmployees("it", null, 40000.0, null);
+
+        assertEquals(List.of(emp1), result);
+        verify(employeeRepository, never()).filterEmployees(any(), any(), any());
+    }
+
+    @Test
+    void testFilterEmployeesExactMatchQueriesDatabase() {
+        when(employeeRepository.findMatching("IT", null, null, MatchMode.EXACT)).thenReturn(List.of(emp1));
+
+        List<Employee> result = employeeService.filterEmployees("IT", null, null, "exact");
+
+        assertEquals(List.of(emp1), result);
+        verify(employeeSearchIndex, never()).search(any(), any(), any());
+        assertThrows(InvalidFilterException.class, () -> employeeService.filterEmployees("IT", null, null, "fuzzy"));
+    }
+
+    @Test
+    void testGetEmployeeByIdIsCached() {
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(emp1));
+        when(employeeRepository.findById(3L)).thenReturn(Optional.empty());
+
+        employeeService.getEmployeeById(1L);
+        employeeService.getEmployeeById(1L);
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(3L));
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(3L));
+
+        // One query per ID, including the missing one, and never an existence check
+        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(1)).findById(3L);
+        verify(employeeRepository, never()).existsById(anyLong());
+
+        // A write invalidates the entry, so the next read goes back to the database
+        employeeCache.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.created(new Employee(3L, "New Hire", null, null, 1000.0, null, "IT", "Intern"))));
+        when(employeeRepository.findById(3L)).thenReturn(Optional.of(emp2));
+        assertEquals("Jane Doe", employeeService.getEmployeeById(3L).getName());
+    }
 }
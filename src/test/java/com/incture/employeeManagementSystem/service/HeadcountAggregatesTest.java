@@ -0,0 +1,127 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.Employee;
+
+class HeadcountAggregatesTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private HeadcountAggregates headcountAggregates;
+
+    private Employee emp1;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        List<Object[]> departments = new ArrayList<>();
+        departments.add(new Object[] { "IT", 2L });
+        departments.add(new Object[] { "HR", 1L });
+        List<Object[]> jobTitles = new ArrayList<>();
+        jobTitles.add(new Object[] { "Software Engineer", 2L });
+        jobTitles.add(new Object[] { null, 1L });
+        when(employeeRepository.countEmployeesByDepartment()).thenReturn(departments);
+        when(employeeRepository.countEmployeesByJobTitle()).thenReturn(jobTitles);
+        headcountAggregates.afterSingletonsInstantiated();
+
+        emp1 = new Employee(1L, "John Doe", "john.doe@example.com", "1234567890", 50000.0, "Developer", "IT", "Software Engineer");
+    }
+
+    @Test
+    void testCountsFollowChanges() {
+        Employee moved = new Employee(emp1);
+        moved.setDepartment("HR");
+        headcountAggregates.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.updated(emp1, moved)));
+        headcountAggregates.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.created(
+                new Employee(4L, "Jane Roe", null, null, 30000.0, null, "Finance", "Analyst"))));
+
+        List<Object[]> byDepartment = headcountAggregates.countByDepartment();
+        assertEquals(3, byDepartment.size());
+        assertArrayEquals(new Object[] { "Finance", 1L }, byDepartment.get(0));
+        assertArrayEquals(new Object[] { "HR", 2L }, byDepartment.get(1));
+        assertArrayEquals(new Object[] { "IT", 1L }, byDepartment.get(2));
+
+        headcountAggregates.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(1L, moved)));
+        List<Object[]> byJobTitle = headcountAggregates.countByJobTitle();
+        assertArrayEquals(new Object[] { null, 1L }, byJobTitle.get(0));
+        assertArrayEquals(new Object[] { "Analyst", 1L }, byJobTitle.get(1));
+        assertArrayEquals(new Object[] { "Software Engineer", 1L }, byJobTitle.get(2));
+
+        // Counts are served from memory after the initial load
+        verify(employeeRepository, times(1)).countEmployeesByDepartment();
+    }
+
+    @Test
+    void testUnknownPreviousStateReloads() {
+        headcountAggregates.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(1L, null)));
+        headcountAggregates.countByDepartment();
+        verify(employeeRepository, times(2)).countEmployeesByDepartment();
+    }
+
+    @Test
+    void testChangeCreatedBeforeReloadIsNotCountedTwice() {
+        Employee hired = new Employee(4L, "Jane Roe", null, null, 30000.0, null, "HR", "Analyst");
+        EmployeeChangeEvent event = EmployeeChangeEvent.of(EmployeeChange.created(hired));
+        // The reload ran after the change committed but before its listener
+        List<Object[]> reloaded = new ArrayList<>();
+        reloaded.add(new Object[] { "IT", 2L });
+        reloaded.add(new Object[] { "HR", 2L });
+        when(employeeRepository.countEmployeesByDepartment()).thenReturn(reloaded);
+        headcountAggregates.rebuild();
+
+        headcountAggregates.onEmployeeChange(event);
+
+        assertArrayEquals(new Object[] { "HR", 2L }, headcountAggregates.countByDepartment().get(0));
+        verify(employeeRepository, times(3)).countEmployeesByDepartment();
+    }
+
+    @Test
+    void testGroupsIgnoreCase() {
+        Employee moved = new Employee(emp1);
+        moved.setDepartment("hr");
+        headcountAggregates.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.updated(emp1, moved)));
+
+        List<Object[]> byDepartment = headcountAggregates.countByDepartment();
+        assertEquals(2, byDepartment.size());
+        assertArrayEquals(new Object[] { "HR", 2L }, byDepartment.get(0));
+        assertArrayEquals(new Object[] { "IT", 1L }, byDepartment.get(1));
+    }
+
+    @Test
+    void testReportsNeverSeeAReloadHalfway() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread reloader = new Thread(() -> {
+            while (running.get()) {
+                headcountAggregates.rebuild();
+            }
+        });
+        reloader.start();
+        try {
+            for (int i = 0; i < 20000; i++) {
+                long total = headcountAggregates.countByDepartment().stream().mapToLong(row -> (Long) row[1]).sum();
+                assertEquals(3, total);
+            }
+        } finally {
+            running.set(false);
+            reloader.join();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class QuantileSketchTest {
+
+    @Test
+    void testExactWhileSmall() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = 100; value >= 1; value--) {
+            sketch.update(value);
+        }
+
+        QuantileSketch.SortedView view = QuantileSketch.SortedView.of(sketch, new QuantileSketch());
+
+        assertTrue(sketch.isExact());
+        assertEquals(0, sketch.getNormalizedRankError());
+        assertEquals(1.0, view.quantile(0));
+        assertEquals(50.0, view.quantile(0.5));
+        assertEquals(90.0, view.quantile(0.9));
+        assertEquals(100.0, view.quantile(1));
+        assertEquals(25, view.rank(25.5));
+    }
+
+    @Test
+    void testBoundedMemoryAndRankError() {
+        QuantileSketch sketch = new QuantileSketch();
+        int n = 1_000_000;
+        for (int i = 0; i < n; i++) {
+            // A permutation of 0..n-1, so the rank of v is v + 1.
+            sketch.update((i * 7919L) % n);
+        }
+
+        QuantileSketch.SortedView view = QuantileSketch.SortedView.of(sketch, new QuantileSketch());
+
+        assertFalse(sketch.isExact());
+        assertEquals(n, sketch.getN());
+        assertTrue(sketch.getRetained() < 4 * QuantileSketch.DEFAULT_K, "retained " + sketch.getRetained());
+        double error = sketch.getNormalizedRankError() * n;
+        for (double fraction : new double[] { 0.1, 0.5, 0.9, 0.99 }) {
+            assertEquals(fraction * n, view.quantile(fraction), error);
+        }
+        assertEquals(n, view.rank(n));
+    }
+
+    @Test
+    void testRemovedValuesAreSubtracted() {
+        QuantileSketch added = new QuantileSketch();
+        QuantileSketch removed = new QuantileSketch();
+        for (int value = 1; value <= 10_000; value++) {
+            added.update(value);
+            if (value <= 2_500) {
+                removed.update(value);
+            }
+        }
+
+        QuantileSketch.SortedView view = QuantileSketch.SortedView.of(added, removed);
+
+        assertEquals(7_500, view.getCount());
+        double error = added.getNormalizedRankError() * added.getN() + removed.getNormalizedRankError() * removed.getN();
+        assertEquals(2_500 + 0.5 * 7_500, view.quantile(0.5), error);
+        assertEquals(10_000.0, view.quantile(1));
+        assertEquals(7_500, view.rank(10_000));
+    }
+}
@@ -0,0 +1,151 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.incture.employeeManagementSystem.entities.ReportJob;
+import com.incture.employeeManagementSystem.exception.ServiceBusyException;
+import com.opencsv.CSVWriter;
+
+class ReportJobServiceTest {
+
+    @Mock
+    private EmployeeDataVersion employeeDataVersion;
+
+    @InjectMocks
+    private ReportJobService reportJobService;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(reportJobService, "directory", directory);
+        ReflectionTestUtils.setField(reportJobService, "threads", 1);
+        ReflectionTestUtils.setField(reportJobService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(reportJobService, "waitTimeout", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(reportJobService, "supersededRetention", Duration.ofSeconds(1));
+        Files.writeString(directory.resolve("left-over.csv"), "ID");
+        reportJobService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobService.shutdown();
+    }
+
+    @Test
+    void testIdenticalRequestsShareOneJobPerDataVersion() throws Exception {
+        when(employeeDataVersion.get()).thenReturn(3L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ReportJob first = reportJobService.submit("employees_report.csv", blockingReport(release, "1"));
+        ReportJob attached = reportJobService.submit("employees_report.csv", report("2"));
+        release.countDown();
+        Path file = reportJobService.generate("employees_report.csv", report("3"));
+
+        assertFalse(Files.exists(directory.resolve("left-over.csv")));
+        assertEquals(first.getId(), attached.getId());
+        assertEquals(1, generated.get());
+        assertEquals(ReportJob.Status.COMPLETED, first.getStatus());
+        assertEquals(3L, first.getDataVersion());
+        assertEquals("\"1\"\n", Files.readString(file));
+        assertEquals(file, reportJobService.getFile(first.getId()).orElseThrow());
+    }
+
+    @Test
+    void testNewDataVersionSupersedesOldFile() throws Exception {
+        when(employeeDataVersion.get()).thenReturn(3L);
+        ReportJob old = reportJobService.submit("employees_report.csv", report("1"));
+        Path oldFile = reportJobService.generate("employees_report.csv", report("ignored"));
+        Path department = reportJobService.generate("employee_count_by_department.csv", report("IT"));
+
+        when(employeeDataVersion.get()).thenReturn(4L);
+        Path newFile = reportJobService.generate("employees_report.csv", report("2"));
+
+        assertNotEquals(oldFile, newFile);
+        assertEquals("\"2\"\n", Files.readString(newFile));
+        // Pollers of the old job can still download it for the retention
+        assertEquals(ReportJob.Status.COMPLETED, reportJobService.getJob(old.getId()).getStatus());
+        assertEquals("\"1\"\n", Files.readString(reportJobService.getFile(old.getId()).orElseThrow()));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (Files.exists(oldFile) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(Files.exists(oldFile));
+        assertNull(reportJobService.getJob(old.getId()));
+        // Other reports are kept until they are generated again
+        assertTrue(Files.exists(department));
+    }
+
+    @Test
+    void testQueueIsBoundedAndFailedJobsAreRetried() throws Exception {
+        when(employeeDataVersion.get()).thenReturn(3L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ReportJob running = reportJobService.submit("employees_report.csv", blockingReport(release, "1"));
+        reportJobService.submit("employee_count_by_department.csv", report("IT"));
+        assertThrows(ServiceBusyException.class, () -> reportJobService.submit("employee_count_by_job_title.csv", report("Engineer")));
+        release.countDown();
+        assertEquals("\"1\"\n", Files.readString(reportJobService.generate("employees_report.csv", report("2"))));
+        assertEquals("\"IT\"\n", Files.readString(reportJobService.generate("employee_count_by_department.csv", report("HR"))));
+        assertEquals(ReportJob.Status.COMPLETED, running.getStatus());
+
+        // The rejected job and a job that fails are both replaced by the next request
+        assertThrows(IOException.class, () -> reportJobService.generate("employee_count_by_job_title.csv", writer -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+        Path file = reportJobService.generate("employee_count_by_job_title.csv", report("Engineer"));
+
+        assertEquals("\"Engineer\"\n", Files.readString(file));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.noneMatch(path -> path.toString().endsWith(".tmp")));
+        }
+    }
+
+    private Consumer<CSVWriter> report(String value) {
+        return writer -> {
+            generated.incrementAndGet();
+            writer.writeNext(new String[] { value });
+        };
+    }
+
+    private Consumer<CSVWriter> blockingReport(CountDownLatch release, String value) {
+        return writer -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            report(value).accept(writer);
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.incture.employeeManagementSystem.dao.RoleRepository;
+import com.incture.employeeManagementSystem.entities.Role;
+
+class RoleCatalogTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @InjectMocks
+    private RoleCatalog roleCatalog;
+
+    private Role admin;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(roleCatalog, "missReloadInterval", Duration.ofMinutes(1));
+        admin = new Role();
+        admin.setId(1L);
+        admin.setName("ROLE_Admin");
+        when(roleRepository.findAll()).thenReturn(List.of(admin));
+        roleCatalog.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void testMissingNameIsNotFound() {
+        assertTrue(roleCatalog.findByName(null).isEmpty());
+        assertTrue(roleCatalog.findByName(" ").isEmpty());
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testUnknownNamesReloadAtMostOncePerInterval() {
+        assertTrue(roleCatalog.findByName("ROLE_Nobody").isEmpty());
+        assertTrue(roleCatalog.findByName("ROLE_Someone").isEmpty());
+        assertEquals(admin, roleCatalog.findByName("ROLE_Admin").orElseThrow());
+        verify(roleRepository, times(2)).findAll();
+
+        // Changes made through this application still reload right away
+        roleCatalog.invalidate();
+        roleCatalog.findByName("ROLE_Admin");
+        verify(roleRepository, times(3)).findAll();
+    }
+}
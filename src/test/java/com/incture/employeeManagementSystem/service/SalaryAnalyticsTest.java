@@ -0,0 +1,203 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.incture.employeeManagementSystem.dao.EmployeeRepository;
+import com.incture.employeeManagementSystem.entities.Employee;
+import com.incture.employeeManagementSystem.entities.SalaryDistribution;
+import com.incture.employeeManagementSystem.entities.SalaryStatistics;
+import com.incture.employeeManagementSystem.exception.InvalidFieldSelectionException;
+
+class SalaryAnalyticsTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private SalaryAnalytics salaryAnalytics;
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(employeeRepository.streamAnalyticsAttributes()).thenAnswer(invocation -> rows.stream());
+
+        rows.add(new Object[] { 1L, "IT", "Software Engineer", "Developer", 50000.0 });
+        rows.add(new Object[] { 2L, "IT", "Software Engineer", "Developer", 70000.0 });
+        rows.add(new Object[] { 3L, "HR", "HR Manager", "Manager", 60000.0 });
+        rows.add(new Object[] { 4L, null, "Intern", "Developer", null });
+    }
+
+    @Test
+    void testStatisticsByDepartment() {
+        List<SalaryStatistics> statistics = salaryAnalytics.statistics("department");
+
+        assertEquals(3, statistics.size());
+        assertNull(statistics.get(0).getGroup());
+        assertEquals(1, statistics.get(0).getEmployees());
+        assertEquals(0, statistics.get(0).getCount());
+        assertNull(statistics.get(0).getMean());
+
+        SalaryStatistics it = statistics.get(2);
+        assertEquals("IT", it.getGroup());
+        assertEquals(2, it.getCount());
+        assertEquals(50000.0, it.getMin());
+        assertEquals(70000.0, it.getMax());
+        assertEquals(120000.0, it.getSum());
+        assertEquals(60000.0, it.getMean());
+        assertEquals(10000.0, it.getStandardDeviation(), 1e-6);
+
+        assertThrows(InvalidFieldSelectionException.class, () -> salaryAnalytics.statistics("salary"));
+    }
+
+    @Test
+    void testStatisticsFollowChanges() {
+        salaryAnalytics.rebuild();
+        Employee moved = new Employee(3L, "Jane Doe", null, null, 80000.0, "Developer", "IT", "Software Engineer");
+        salaryAnalytics.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.updated(null, moved)));
+        salaryAnalytics.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(1L, null)));
+        salaryAnalytics.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.created(
+                new Employee(5L, "John Roe", null, null, 40000.0, "Analyst", "Finance", "Analyst"))));
+
+        List<SalaryStatistics> byRole = salaryAnalytics.statistics("role");
+        assertEquals(2, byRole.size());
+        assertEquals("Analyst", byRole.get(0).getGroup());
+        SalaryStatistics developers = byRole.get(1);
+        assertEquals(3, developers.getEmployees());
+        assertEquals(2, developers.getCount());
+        assertEquals(75000.0, developers.getMean());
+    }
+
+    @Test
+    void testDistributionFollowsChanges() {
+        rows.clear();
+        LongStream.rangeClosed(1, 20_000).forEach(id -> rows.add(
+                new Object[] { id, id % 2 == 0 ? "IT" : "HR", "Engineer", "Developer", (double) id }));
+        salaryAnalytics.rebuild();
+        // Raise the lower half of IT above everyone else; the sketch must forget the old salaries.
+        for (long id = 2; id <= 10_000; id += 2) {
+            salaryAnalytics.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.updated(null,
+                    new Employee(id, "E" + id, null, null, 20_000.0 + id, "Developer", "IT", "Engineer"))));
+        }
+
+        List<SalaryDistribution> distribution = salaryAnalytics.distribution("department", 4);
+
+        assertEquals(2, distribution.size());
+        SalaryDistribution it = distribution.get(1);
+        assertEquals("IT", it.getGroup());
+        assertEquals(10_000, it.getCount());
+        double error = it.getRankError() * it.getCount();
+        assertTrue(it.getRankError() < 0.05, "rank error " + it.getRankError());
+        // IT now holds 10002..20000 and 20002..30000, evenly spaced.
+        assertEquals(20_000.0, it.getPercentiles().get("p50"), 2 * error + 2);
+        assertEquals(List.of("p10", "p25", "p50", "p75", "p90", "p95", "p99"), List.copyOf(it.getPercentiles().keySet()));
+        assertEquals(4, it.getHistogram().size());
+        assertEquals(10_000, it.getHistogram().stream().mapToLong(SalaryDistribution.Bucket::getCount).sum());
+        assertEquals(30_000.0, it.getHistogram().get(3).getUpper());
+
+        assertThrows(InvalidFieldSelectionException.class, () -> salaryAnalytics.distribution("department", 0));
+    }
+
+    @Test
+    void testSmallGroupResketchedAfterCompaction() {
+        rows.clear();
+        LongStream.rangeClosed(1, 20_000).forEach(id -> rows.add(
+                new Object[] { id, id <= 1_000 ? "Legal" : "IT", "Engineer", "Developer", (double) id }));
+        salaryAnalytics.rebuild();
+        // Deleting most of IT compacts the slots, then Legal drifts and is re-sketched from its members
+        for (long id = 1_001; id <= 16_000; id++) {
+            salaryAnalytics.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.deleted(id, null)));
+        }
+        for (long id = 1; id <= 600; id++) {
+            salaryAnalytics.onEmployeeChange(EmployeeChangeEvent.of(EmployeeChange.updated(null,
+                    new Employee(id, "E" + id, null, null, 1_000.0 + id, "Developer", "Legal", "Engineer"))));
+        }
+
+        SalaryDistribution legal = salaryAnalytics.distribution("department", 2).get(1);
+
+        assertEquals("Legal", legal.getGroup());
+        assertEquals(1_000, legal.getCount());
+        // Legal now holds 601..1600; the re-sketch dropped the removals and the error they added
+        assertTrue(legal.getRankError() < 0.02, "rank error " + legal.getRankError());
+        assertEquals(1_100.0, legal.getPercentiles().get("p50"), 0.02 * 1_000 + 1);
+        assertEquals(1_600.0, legal.getHistogram().get(1).getUpper());
+    }
+
+    @Test
+    void testParallelAggregationMatchesSequential() {
+        rows.clear();
+        LongStream.rangeClosed(1, 300_000).forEach(id -> rows.add(
+                new Object[] { id, "D" + id % 7, "J" + id % 3, "R", 30000.0 + id % 1000 }));
+
+        List<SalaryStatistics> statistics = salaryAnalytics.statistics("department");
+
+        assertEquals(7, statistics.size());
+        long employees = statistics.stream().mapToLong(SalaryStatistics::getCount).sum();
+        assertEquals(300_000, employees);
+        SalaryStatistics first = statistics.get(0);
+        double mean = 0, squares = 0;
+        long n = 0;
+        for (long id = 7; id <= 300_000; id += 7) {
+            mean += 30000.0 + id % 1000;
+            n++;
+        }
+        mean /= n;
+        for (long id = 7; id <= 300_000; id += 7) {
+            double deviation = 30000.0 + id % 1000 - mean;
+            squares += deviation * deviation;
+        }
+        assertEquals("D0", first.getGroup());
+        assertEquals(mean, first.getMean(), 1e-6);
+        assertEquals(Math.sqrt(squares / n), first.getStandardDeviation(), 1e-6);
+    }
+
+    @Test
+    void testRebuildDoesNotBlockOrLoseChanges() {
+        Employee raised = new Employee(3L, "Jane Doe", null, null, 90000.0, "Manager", "HR", "HR Manager");
+        // The scan reads employee 3 before the raise; the listener of the raise runs while the scan is still going
+        when(employeeRepository.streamAnalyticsAttributes()).thenAnswer(invocation -> rows.stream().peek(row -> {
+            if (row[0].equals(4L)) {
+                CompletableFuture.runAsync(() -> salaryAnalytics.onEmployeeChange(
+                        EmployeeChangeEvent.of(EmployeeChange.updated(null, raised))))
+                        .orTimeout(5, TimeUnit.SECONDS)
+                        .join();
+            }
+        }));
+
+        salaryAnalytics.rebuild();
+
+        SalaryStatistics hr = salaryAnalytics.statistics("department").get(1);
+        assertEquals("HR", hr.getGroup());
+        assertEquals(1, hr.getCount());
+        assertEquals(90000.0, hr.getMean());
+    }
+}
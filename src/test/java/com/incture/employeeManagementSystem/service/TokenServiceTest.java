@@ -0,0 +1,70 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import com.incture.employeeManagementSystem.entities.TokenResponse;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final Instant now = Instant.parse("2024-01-01T09:00:00Z");
+
+    private TokenService tokenService(Instant at) {
+        return new TokenService(SECRET, Duration.ofMinutes(15), Clock.fixed(at, ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testIssueAndVerify() {
+        TokenResponse token = tokenService(now).issue("admin", "ROLE_Admin");
+
+        TokenService.Claims claims = tokenService(now.plusSeconds(60)).verify(token.getToken()).orElseThrow();
+
+        assertEquals("admin", claims.username());
+        assertEquals("ROLE_Admin", claims.role());
+        assertEquals(now.plus(Duration.ofMinutes(15)), token.getExpiresAt());
+    }
+
+    @Test
+    public void testRejectsTamperedToken() {
+        String token = tokenService(now).issue("employee", "ROLE_Employee").getToken();
+        String forgedPayload = java.util.Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("employee\nROLE_Admin\n9999999999\nid".getBytes());
+
+        assertTrue(tokenService(now).verify(forgedPayload + token.substring(token.indexOf('.'))).isEmpty());
+        assertTrue(tokenService(now).verify(token + "x").isEmpty());
+        assertTrue(tokenService(now).verify("garbage").isEmpty());
+        assertTrue(new TokenService("another-secret-of-at-least-32-bytes!", Duration.ofMinutes(15)).verify(token).isEmpty());
+    }
+
+    @Test
+    public void testRejectsExpiredToken() {
+        String token = tokenService(now).issue("admin", "ROLE_Admin").getToken();
+
+        assertTrue(tokenService(now.plus(Duration.ofMinutes(15))).verify(token).isEmpty());
+    }
+
+    @Test
+    public void testRejectsRevokedToken() {
+        TokenService tokenService = tokenService(now);
+        String token = tokenService.issue("admin", "ROLE_Admin").getToken();
+        String other = tokenService.issue("admin", "ROLE_Admin").getToken();
+
+        tokenService.revoke(tokenService.verify(token).orElseThrow());
+
+        assertTrue(tokenService.verify(token).isEmpty());
+        assertTrue(tokenService.verify(other).isPresent());
+    }
+
+    @Test
+    public void testRequiresLongSecret() {
+        assertThrows(IllegalStateException.class, () -> new TokenService("short", Duration.ofMinutes(15)));
+    }
+}
@@ -0,0 +1,84 @@
+package com.incture.employeeManagementSystem.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.incture.employeeManagementSystem.dao.UserRepository;
+import com.incture.employeeManagementSystem.entities.Role;
+import com.incture.employeeManagementSystem.entities.User;
+
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UserAccountCache userAccountCache = new UserAccountCache(100, Duration.ofMinutes(1));
+
+    @InjectMocks
+    private UserService userService;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        Role role = new Role();
+        role.setId(1L);
+        role.setName("ROLE_Admin");
+        user = new User();
+        user.setId(1L);
+        user.setUsername("admin");
+        user.setPassword("{bcrypt}hash");
+        user.setRole(role);
+    }
+
+    @Test
+    public void testLoadUserByUsernameIsCached() {
+        when(userRepository.findWithRoleByUsername("admin")).thenReturn(Optional.of(user));
+
+        UserDetails first = userService.loadUserByUsername("admin");
+        UserDetails second = userService.loadUserByUsername("admin");
+
+        assertNotSame(first, second);
+        assertEquals("{bcrypt}hash", second.getPassword());
+        assertEquals("ROLE_Admin", second.getAuthorities().iterator().next().getAuthority());
+        assertTrue(userService.isUsernameTaken("admin"));
+        verify(userRepository, times(1)).findWithRoleByUsername("admin");
+        verify(userRepository, never()).existsByUsername("admin");
+    }
+
+    @Test
+    public void testLoadUserByUsernameAfterEviction() {
+        when(userRepository.findWithRoleByUsername("admin")).thenReturn(Optional.of(user));
+        userService.loadUserByUsername("admin");
+
+        user.setPassword("{bcrypt}changed");
+        userAccountCache.evict("admin");
+
+        assertEquals("{bcrypt}changed", userService.loadUserByUsername("admin").getPassword());
+        verify(userRepository, times(2)).findWithRoleByUsername("admin");
+    }
+
+    @Test
+    public void testLoadUserByUsernameNotFound() {
+        when(userRepository.findWithRoleByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("ghost"));
+        assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername("ghost"));
+        verify(userRepository, times(2)).findWithRoleByUsername("ghost");
+    }
+}